@@ -17,6 +17,7 @@
 plugins {
     id("gradlebuild.distribution.implementation-kotlin")
     id("gradlebuild.kotlin-dsl-sam-with-receiver")
+    id("gradlebuild.jmh")
 }
 
 description = "Configuration Cache services supporting bean serialization"
@@ -46,4 +47,8 @@ dependencies {
 
     implementation(libs.groovy)
     implementation(libs.guava)
+
+    jmhImplementation(projects.stdlibSerializationCodecs)
+    jmhImplementation(testFixtures(projects.core))
+    jmhImplementation(testFixtures(projects.persistentCache))
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.serialize.beans.services
+
+import org.gradle.api.logging.Logging
+import org.gradle.cache.internal.TestCrossBuildInMemoryCacheFactory
+import org.gradle.internal.configuration.problems.ProblemsListener
+import org.gradle.internal.configuration.problems.PropertyProblem
+import org.gradle.internal.configuration.problems.PropertyTrace
+import org.gradle.internal.configuration.problems.StructuredMessageBuilder
+import org.gradle.internal.extensions.stdlib.useToRun
+import org.gradle.internal.serialize.Decoder
+import org.gradle.internal.serialize.graph.ClassDecoder
+import org.gradle.internal.serialize.graph.ClassEncoder
+import org.gradle.internal.serialize.graph.Codec
+import org.gradle.internal.serialize.graph.DefaultReadContext
+import org.gradle.internal.serialize.graph.DefaultWriteContext
+import org.gradle.internal.serialize.graph.IsolateOwner
+import org.gradle.internal.serialize.graph.WriteContext
+import org.gradle.internal.serialize.graph.codecs.BeanCodec
+import org.gradle.internal.serialize.graph.codecs.Bindings
+import org.gradle.internal.serialize.graph.runReadOperation
+import org.gradle.internal.serialize.graph.runWriteOperation
+import org.gradle.internal.serialize.graph.withIsolate
+import org.gradle.internal.serialize.codecs.stdlib.stdlibTypes
+import org.gradle.internal.serialize.kryo.KryoBackedDecoder
+import org.gradle.internal.serialize.kryo.KryoBackedEncoder
+import org.gradle.util.TestUtil
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.OutputStream
+import java.util.concurrent.TimeUnit
+
+
+/**
+ * Measures storing and loading a synthetic task graph made of beans,
+ * the way the configuration cache stores and loads task state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+open class BeanSerializationBenchmark {
+
+    @Param("10000", "80000")
+    var taskCount: Int = 0
+
+    private
+    val codec: Codec<Any?> = Bindings.of {
+        stdlibTypes()
+        bind(BeanCodec)
+    }.build()
+
+    private
+    val beanStateReaderLookup = DefaultBeanStateReaderLookup(
+        BeanConstructors(TestCrossBuildInMemoryCacheFactory()),
+        TestUtil.instantiatorFactory()
+    )
+
+    private
+    lateinit var graph: ArrayList<SyntheticTask>
+
+    private
+    lateinit var storedGraph: ByteArray
+
+    @Setup
+    fun setUp() {
+        graph = (0 until taskCount).mapTo(ArrayList(taskCount)) { index ->
+            SyntheticTask(index)
+        }
+        storedGraph = ByteArrayOutputStream().also(::store).toByteArray()
+    }
+
+    @Benchmark
+    fun storeGraph(): Int =
+        ByteArrayOutputStream(storedGraph.size).also(::store).size()
+
+    @Benchmark
+    fun loadGraph(): Any? =
+        DefaultReadContext(
+            codec = codec,
+            decoder = KryoBackedDecoder(ByteArrayInputStream(storedGraph)),
+            beanStateReaderLookup = beanStateReaderLookup,
+            logger = logger,
+            problemsListener = FailingProblemsListener,
+            classDecoder = ClassNameDecoder
+        ).useToRun {
+            withIsolate(BenchmarkIsolateOwner, codec) {
+                runReadOperation {
+                    read()
+                }
+            }
+        }
+
+    private
+    fun store(outputStream: OutputStream) {
+        DefaultWriteContext(
+            codec = codec,
+            encoder = KryoBackedEncoder(outputStream),
+            beanStateWriterLookup = DefaultBeanStateWriterLookup(),
+            logger = logger,
+            tracer = null,
+            problemsListener = FailingProblemsListener,
+            classEncoder = ClassNameEncoder
+        ).useToRun {
+            withIsolate(BenchmarkIsolateOwner, codec) {
+                runWriteOperation {
+                    write(graph)
+                }
+            }
+        }
+    }
+
+    @Suppress("unused")
+    class SyntheticTask(index: Int) {
+        private val name = "task$index"
+        private val path = ":project${index % 500}:task$index"
+        private val enabled = index % 7 != 0
+        private val ordinal = index
+        private val timeoutMillis = index * 1000L
+        private val weight = index / 3.0
+        private val dependsOn = arrayListOf(":project${index % 500}:compile", ":project${index % 500}:processResources")
+        private val inputs = SyntheticInputs(index)
+    }
+
+    @Suppress("unused")
+    class SyntheticInputs(index: Int) {
+        private val sourceCompatibility = 17
+        private val incremental = index % 2 == 0
+        private val maxWorkers = (index % 8).toShort()
+        private val encoding = "UTF-8"
+    }
+
+    private
+    object BenchmarkIsolateOwner : IsolateOwner {
+        override val delegate: Any
+            get() = this
+
+        override fun <T> service(type: Class<T>): T =
+            throw UnsupportedOperationException()
+    }
+
+    private
+    object ClassNameEncoder : ClassEncoder {
+        override fun WriteContext.encodeClass(type: Class<*>) {
+            writeString(type.name)
+        }
+    }
+
+    private
+    object ClassNameDecoder : ClassDecoder {
+        override fun Decoder.decodeClass(): Class<*> =
+            Class.forName(readString())
+    }
+
+    private
+    object FailingProblemsListener : ProblemsListener {
+        override fun onProblem(problem: PropertyProblem) {
+            throw IllegalStateException("Unexpected problem: ${problem.message}")
+        }
+
+        override fun onError(trace: PropertyTrace, error: Exception, message: StructuredMessageBuilder) {
+            throw error
+        }
+
+        override fun forIncompatibleTask(trace: PropertyTrace, reason: String): ProblemsListener =
+            this
+    }
+
+    private
+    companion object {
+        val logger = Logging.getLogger(BeanSerializationBenchmark::class.java)
+    }
+}
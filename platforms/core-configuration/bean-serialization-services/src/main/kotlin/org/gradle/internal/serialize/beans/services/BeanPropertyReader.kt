@@ -27,6 +27,7 @@ import org.gradle.internal.serialize.graph.logPropertyProblem
 import org.gradle.internal.serialize.graph.ownerService
 import org.gradle.internal.serialize.graph.readPropertyValue
 import org.gradle.internal.serialize.graph.reportUnsupportedFieldType
+import org.gradle.internal.serialize.graph.withDebugFrame
 import org.gradle.internal.service.ServiceRegistry
 import org.gradle.internal.state.ModelObject
 import java.lang.reflect.Field
@@ -70,7 +71,14 @@ class BeanPropertyReader(
     private
     suspend fun ReadContext.readFieldsOf(bean: Any) {
         for (relevantField in relevantFields) {
-            readFieldOf(bean, relevantField)
+            withDebugFrame({ relevantField.field.debugFrameName() }) {
+                val primitiveCodec = relevantField.primitiveCodec
+                if (primitiveCodec != null) {
+                    primitiveCodec.run { readFieldOf(bean, relevantField.field) }
+                } else {
+                    readFieldOf(bean, relevantField)
+                }
+            }
         }
     }
 
@@ -41,6 +41,13 @@ class BeanPropertyWriter(
     override suspend fun WriteContext.writeStateOf(bean: Any) {
         for (relevantField in relevantFields) {
             val field = relevantField.field
+            val primitiveCodec = relevantField.primitiveCodec
+            if (primitiveCodec != null) {
+                withDebugFrame({ field.debugFrameName() }) {
+                    primitiveCodec.run { writeFieldOf(bean, field) }
+                }
+                continue
+            }
             val fieldName = field.name
             val fieldValue =
                 when (val isExplicitValue = relevantField.isExplicitValueField) {
@@ -77,10 +84,6 @@ class BeanPropertyWriter(
             .conventionMapping
             .getConventionValue<Any?>(fieldValue, field.name, false)
 
-    private
-    fun Field.debugFrameName() =
-        "${declaringClass.typeName}.$name"
-
     private
     fun Any?.isAssignableTo(type: Class<*>) =
         (if (type.isPrimitive) wrap(type) else type)
@@ -36,6 +36,11 @@ val unsupportedFieldDeclaredTypes = listOf(
 )
 
 
+internal
+fun Field.debugFrameName() =
+    "${declaringClass.typeName}.$name"
+
+
 internal
 fun relevantStateOf(beanType: Class<*>): List<RelevantField> =
     when (IConventionAware::class.java.isAssignableFrom(beanType)) {
@@ -101,7 +106,14 @@ data class RelevantField(
      * whether a convention mapped property has been explicitly set or not.
      */
     val isExplicitValueField: Field? = null
-)
+) {
+    /**
+     * The codec for the value of a primitive field, unless the value is subject to convention mapping.
+     */
+    val primitiveCodec: PrimitiveFieldCodec? =
+        if (isExplicitValueField == null) PrimitiveFieldCodec.forType(field.type)
+        else null
+}
 
 
 fun unsupportedFieldTypeFor(field: Field): KClass<*>? =
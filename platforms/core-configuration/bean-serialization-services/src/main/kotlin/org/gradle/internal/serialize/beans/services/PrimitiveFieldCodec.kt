@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.serialize.beans.services
+
+import org.gradle.internal.serialize.Decoder
+import org.gradle.internal.serialize.Encoder
+import java.lang.reflect.Field
+
+
+/**
+ * Writes and reads the value of a primitive field as is, without boxing it
+ * and without going through the codec of the context.
+ *
+ * As both the writer and the reader of a bean know its fields, no type tag is needed.
+ */
+internal
+enum class PrimitiveFieldCodec(private val type: Class<*>) {
+
+    BooleanField(java.lang.Boolean.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeBoolean(field.getBoolean(bean))
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setBoolean(bean, readBoolean())
+    },
+
+    ByteField(java.lang.Byte.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeByte(field.getByte(bean))
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setByte(bean, readByte())
+    },
+
+    ShortField(java.lang.Short.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeShort(field.getShort(bean))
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setShort(bean, readShort())
+    },
+
+    CharField(java.lang.Character.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeSmallInt(field.getChar(bean).code)
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setChar(bean, readSmallInt().toChar())
+    },
+
+    IntField(java.lang.Integer.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeInt(field.getInt(bean))
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setInt(bean, readInt())
+    },
+
+    LongField(java.lang.Long.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeLong(field.getLong(bean))
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setLong(bean, readLong())
+    },
+
+    FloatField(java.lang.Float.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeFloat(field.getFloat(bean))
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setFloat(bean, readFloat())
+    },
+
+    DoubleField(java.lang.Double.TYPE) {
+        override fun Encoder.writeFieldOf(bean: Any, field: Field) = writeDouble(field.getDouble(bean))
+        override fun Decoder.readFieldOf(bean: Any, field: Field) = field.setDouble(bean, readDouble())
+    };
+
+    abstract fun Encoder.writeFieldOf(bean: Any, field: Field)
+
+    abstract fun Decoder.readFieldOf(bean: Any, field: Field)
+
+    companion object {
+
+        fun forType(type: Class<*>): PrimitiveFieldCodec? =
+            values().firstOrNull { it.type == type }
+    }
+}
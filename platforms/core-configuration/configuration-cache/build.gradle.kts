@@ -64,6 +64,7 @@ dependencies {
     implementation(projects.stdlibSerializationCodecs)
     implementation(projects.toolingApi)
 
+    implementation(libs.commonsCompress)
     implementation(libs.fastutil)
     implementation(libs.guava)
     implementation(libs.kryo)
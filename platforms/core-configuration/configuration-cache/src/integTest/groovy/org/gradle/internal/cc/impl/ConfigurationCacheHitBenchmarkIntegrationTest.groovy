@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+import org.gradle.api.internal.tasks.execution.ExecuteTaskBuildOperationType
+import org.gradle.integtests.fixtures.BuildOperationsFixture
+import org.gradle.internal.configurationcache.ConfigurationCacheLoadBuildOperationType
+import org.gradle.internal.operations.trace.BuildOperationRecord
+import org.gradle.launcher.exec.RunBuildBuildOperationType
+import org.gradle.operations.configuration.ConfigurationCacheCheckFingerprintBuildOperationType
+
+/**
+ * Measures the latency of configuration cache hits, broken down by phase, on a synthetic build.
+ *
+ * By default, a small build is measured a few times, so the harness is exercised with the other integration tests.
+ * To benchmark locally, the number of measured hits and the size of the synthetic build are controlled by the following environment variables:
+ * <ul>
+ *     <li>`CC_HIT_BENCHMARK_RUNS`, the number of measured hits, 3 by default</li>
+ *     <li>`CC_HIT_BENCHMARK_PROJECTS`, the number of projects, 5 by default</li>
+ *     <li>`CC_HIT_BENCHMARK_TASKS`, the number of tasks per project, 3 by default</li>
+ *     <li>`CC_HIT_BENCHMARK_INPUTS`, the number of file inputs per task, 2 by default</li>
+ * </ul>
+ *
+ * Phases are derived from the build operation timings, so they are reported with millisecond resolution:
+ * <ul>
+ *     <li>startup, from the start of the build to the start of the fingerprint check, including the computation of the cache key,
+ *     which has no build operation of its own</li>
+ *     <li>fingerprint check</li>
+ *     <li>graph load</li>
+ *     <li>first task, from the end of the graph load to the start of the first task</li>
+ *     <li>total, from the start of the build to the start of the first task</li>
+ * </ul>
+ *
+ * The figures are printed and written to `build/reports/configuration-cache-hit-benchmark.csv` in the test directory.
+ * The synthetic build uses no plugin nor dependency, so the benchmark runs without network access.
+ */
+class ConfigurationCacheHitBenchmarkIntegrationTest extends AbstractConfigurationCacheIntegrationTest {
+
+    def operations = new BuildOperationsFixture(executer, temporaryFolder)
+
+    def "measures configuration cache hit latency by phase"() {
+        given:
+        def runs = intFromEnvironment("CC_HIT_BENCHMARK_RUNS", 3)
+        def projects = intFromEnvironment("CC_HIT_BENCHMARK_PROJECTS", 5)
+        def tasks = intFromEnvironment("CC_HIT_BENCHMARK_TASKS", 3)
+        def inputs = intFromEnvironment("CC_HIT_BENCHMARK_INPUTS", 2)
+        generateBuild(projects, tasks, inputs)
+        def configurationCache = newConfigurationCacheFixture()
+
+        and: "the cache entry is stored and a first hit warms up the daemon"
+        configurationCacheRun "benchmark"
+        configurationCache.assertStateStored()
+        configurationCacheRun "benchmark"
+        configurationCache.assertStateLoaded()
+
+        when:
+        def samples = (1..runs).collect {
+            configurationCacheRun "benchmark"
+            configurationCache.assertStateLoaded()
+            phasesOfLastHit()
+        }
+        def report = file("build/reports/configuration-cache-hit-benchmark.csv")
+        report.parentFile.mkdirs()
+        report.text = csvOf(samples)
+        println "Configuration cache hit latency for $projects projects, $tasks tasks per project, $inputs inputs per task, $runs runs (ms):"
+        println summaryOf(samples)
+        println "Samples written to ${report.toURI()}"
+
+        then:
+        samples.size() == runs
+        samples.every { sample -> sample.values().every { it >= 0 } }
+        samples.every { it["total"] >= it["fingerprint check"] + it["graph load"] }
+        report.readLines().size() == runs + 1
+    }
+
+    private Map<String, Long> phasesOfLastHit() {
+        BuildOperationRecord build = operations.first(RunBuildBuildOperationType)
+        BuildOperationRecord check = operations.only(ConfigurationCacheCheckFingerprintBuildOperationType)
+        BuildOperationRecord load = operations.only(ConfigurationCacheLoadBuildOperationType)
+        long firstTaskStart = operations.all(ExecuteTaskBuildOperationType)*.startTime.min()
+        [
+            "startup": check.startTime - build.startTime,
+            "fingerprint check": check.endTime - check.startTime,
+            "graph load": load.endTime - load.startTime,
+            "first task": firstTaskStart - load.endTime,
+            "total": firstTaskStart - build.startTime,
+        ]
+    }
+
+    private static String csvOf(List<Map<String, Long>> samples) {
+        def phases = samples.first().keySet()
+        def lines = [phases.join(",")] + samples.collect { sample -> phases.collect { sample[it] }.join(",") }
+        lines.join("\n") + "\n"
+    }
+
+    private static String summaryOf(List<Map<String, Long>> samples) {
+        def phases = samples.first().keySet()
+        def lines = [String.format(Locale.ROOT, "%-20s %8s %8s %8s %8s", "phase", "min", "median", "mean", "max")]
+        phases.each { phase ->
+            def values = samples.collect { it[phase] }.sort()
+            def median = values.size() % 2 == 1
+                ? values[values.size().intdiv(2)]
+                : (values[values.size().intdiv(2) - 1] + values[values.size().intdiv(2)]) / 2
+            lines << String.format(Locale.ROOT, "%-20s %8d %8.1f %8.1f %8d", phase, values.first(), median as double, values.sum() / values.size() as double, values.last())
+        }
+        lines.join("\n")
+    }
+
+    private void generateBuild(int projects, int tasks, int inputs) {
+        def projectNames = (1..projects).collect { "project$it" }
+        settingsFile """
+            rootProject.name = 'cc-hit-benchmark'
+            include ${projectNames.collect { "'$it'" }.join(", ")}
+        """
+        buildFile """
+            abstract class BenchmarkTask extends DefaultTask {
+                @InputFiles
+                abstract ConfigurableFileCollection getInputFiles()
+
+                @Input
+                abstract Property<String> getMessage()
+
+                @OutputFile
+                abstract RegularFileProperty getOutputFile()
+
+                @TaskAction
+                def run() {
+                    outputFile.get().asFile.text = message.get()
+                }
+            }
+
+            subprojects {
+                def benchmark = tasks.register("benchmark")
+                ${tasks} .times { index ->
+                    def task = tasks.register("task\$index", BenchmarkTask) {
+                        inputFiles.from((0..<${inputs}).collect { "src/input\${index}_\${it}.txt" })
+                        message = "\${project.name}:\$index"
+                        outputFile = layout.buildDirectory.file("outputs/task\${index}.txt")
+                        if (index > 0) {
+                            dependsOn("task\${index - 1}")
+                        }
+                    }
+                    benchmark.configure { dependsOn(task) }
+                }
+            }
+
+            tasks.register("benchmark") {
+                dependsOn(subprojects.collect { it.path + ":benchmark" })
+            }
+        """
+        projectNames.each { project ->
+            tasks.times { task ->
+                inputs.times { input ->
+                    file("$project/src/input${task}_${input}.txt").text = "$project $task $input"
+                }
+            }
+        }
+    }
+
+    private static int intFromEnvironment(String name, int defaultValue) {
+        def value = System.getenv(name)
+        value ? Integer.parseInt(value) : defaultValue
+    }
+}
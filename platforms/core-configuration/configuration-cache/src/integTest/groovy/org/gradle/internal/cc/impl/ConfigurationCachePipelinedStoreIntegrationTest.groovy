@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+class ConfigurationCachePipelinedStoreIntegrationTest extends AbstractConfigurationCacheIntegrationTest {
+
+    def "can reuse entries stored with pipelined state file writes"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        createDirs 'a', 'b'
+        settingsFile """
+            include 'a', 'b'
+        """
+        buildFile """
+            allprojects {
+                tasks.register('greet') {
+                    def greeting = "Hello from \${project.name}"
+                    doLast {
+                        println(greeting)
+                    }
+                }
+            }
+        """
+
+        when:
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.pipelined-store=true", "-Dorg.gradle.configuration-cache.internal.compress=$compress"
+
+        then:
+        configurationCache.assertStateStored()
+        outputContains 'Hello from a'
+        outputContains 'Hello from b'
+
+        when:
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.compress=$compress"
+
+        then:
+        configurationCache.assertStateLoaded()
+        outputContains 'Hello from a'
+        outputContains 'Hello from b'
+
+        where:
+        compress << [false, true]
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+class ConfigurationCacheProfileIntegrationTest extends AbstractConfigurationCacheIntegrationTest {
+
+    def "reports bytes written and decoding time per task type and property"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        buildFile """
+            abstract class GreetTask extends DefaultTask {
+                @Input
+                abstract Property<String> getGreeting()
+
+                @TaskAction
+                def greet() {
+                    println(greeting.get())
+                }
+            }
+
+            tasks.register('greet', GreetTask) {
+                greeting = 'Hello'
+            }
+        """
+
+        when:
+        configurationCacheRun 'greet', '-Dorg.gradle.configuration-cache.internal.profile=true'
+
+        then:
+        configurationCache.assertStateStored()
+        outputContains 'Configuration cache profile written to'
+        def reportFile = profileReportFile()
+        reportFile.text.contains('Bytes written')
+        reportFile.text.contains('GreetTask')
+
+        when:
+        configurationCacheRun 'greet', '-Dorg.gradle.configuration-cache.internal.profile=true'
+
+        then:
+        configurationCache.assertStateLoaded()
+        profileReportFile().text.contains('Decoding time (ms)')
+    }
+
+    def "does not report a profile by default"() {
+        given:
+        buildFile """
+            tasks.register('greet') {
+                doLast {
+                    println('Hello')
+                }
+            }
+        """
+
+        when:
+        configurationCacheRun 'greet'
+
+        then:
+        outputDoesNotContain 'Configuration cache profile written to'
+    }
+
+    private File profileReportFile() {
+        def reportDirs = file('build/reports/configuration-cache').listFiles()
+        assert reportDirs != null && reportDirs.length == 1
+        def reportFile = file("build/reports/configuration-cache/${reportDirs[0].name}/configuration-cache-profile.txt")
+        assert reportFile.isFile()
+        return reportFile
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+class ConfigurationCacheSharedEntriesIntegrationTest extends AbstractConfigurationCacheIntegrationTest {
+
+    def "can reuse an entry from the shared directory when no local entry is available"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        def sharedDir = file('shared-cache')
+        buildFile """
+            tasks.register('greet') {
+                def greeting = "Hello"
+                doLast {
+                    println(greeting)
+                }
+            }
+        """
+
+        when:
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+
+        then:
+        configurationCache.assertStateStored()
+        sharedDir.listFiles().size() == 1
+
+        when:
+        file('.gradle/configuration-cache').deleteDir()
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+
+        then:
+        configurationCache.assertStateLoaded()
+        outputContains 'Hello'
+    }
+
+    def "stores a new entry when the shared entry is out-of-date"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        def sharedDir = file('shared-cache')
+        buildFile """
+            tasks.register('greet') {
+                doLast {
+                    println('Hello')
+                }
+            }
+        """
+
+        when:
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+        file('.gradle/configuration-cache').deleteDir()
+        buildFile << """
+            println('Configuring again')
+        """
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+
+        then:
+        configurationCache.assertStateStored()
+        outputContains 'Configuring again'
+    }
+
+    def "resolves a relative shared directory against the root directory of the build"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        createDir('sub')
+        buildFile """
+            tasks.register('greet') {
+                doLast {
+                    println('Hello')
+                }
+            }
+        """
+
+        when:
+        executer.inDirectory(file('sub'))
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=shared-cache"
+
+        then:
+        configurationCache.assertStateStored()
+        file('shared-cache').listFiles().size() == 1
+        !file('sub/shared-cache').exists()
+    }
+
+    def "does not share entries with a build at another location"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        def sharedDir = file('shared-cache')
+        buildFile """
+            tasks.register('greet') {
+                doLast {
+                    println('Hello')
+                }
+            }
+        """
+        def otherBuild = file('other')
+        otherBuild.file('settings.gradle').createFile()
+        otherBuild.file('build.gradle').text = buildFile.text
+
+        when:
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+        executer.inDirectory(otherBuild)
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+
+        then:
+        configurationCache.assertStateStored()
+        sharedDir.listFiles().size() == 2
+    }
+
+    def "ignores a shared entry that does not match its checksum"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        def sharedDir = file('shared-cache')
+        buildFile """
+            tasks.register('greet') {
+                doLast {
+                    println('Hello')
+                }
+            }
+        """
+
+        when:
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+        file('.gradle/configuration-cache').deleteDir()
+        def archive = sharedDir.listFiles().first()
+        def content = archive.bytes
+        def index = content.length.intdiv(2)
+        content[index] = (byte) (content[index] ^ 0xFF)
+        archive.bytes = content
+        configurationCacheRun 'greet', "-Dorg.gradle.configuration-cache.internal.same-path-shared-cache-dir=${sharedDir}"
+
+        then:
+        configurationCache.assertStateStored()
+        outputContains 'Hello'
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+class ConfigurationCacheSharedValuesIntegrationTest extends AbstractConfigurationCacheIntegrationTest {
+
+    def "file collections and pattern sets repeated across projects are restored"() {
+        given:
+        def configurationCache = newConfigurationCacheFixture()
+        createDirs 'foo', 'bar'
+        file('libs/a.jar').createFile()
+        file('libs/b.jar').createFile()
+        file('libs/extra.jar').createFile()
+        file('src/a.txt').createFile()
+        file('src/b.md').createFile()
+        settingsFile """
+            include 'foo', 'bar'
+
+            abstract class ListTask extends DefaultTask {
+                @InputFiles abstract ConfigurableFileCollection getClasspath()
+                @InputFiles abstract ConfigurableFileCollection getSources()
+                @Internal abstract Property<String> getProjectName()
+                @TaskAction def list() {
+                    println("\${projectName.get()} classpath: " + classpath.files.collect { it.name }.sort())
+                    println("\${projectName.get()} sources: " + sources.files.collect { it.name }.sort())
+                }
+            }
+
+            gradle.lifecycle.beforeProject {
+                def project = it
+                def rootDir = project.rootDir
+                tasks.register('list', ListTask) {
+                    projectName = project.name
+                    classpath.from(project.files("\$rootDir/libs/a.jar", "\$rootDir/libs/b.jar"))
+                    if (project.name == 'foo') {
+                        classpath.from("\$rootDir/libs/extra.jar")
+                    }
+                    sources.from(project.fileTree("\$rootDir/src") { include '**/*.txt' })
+                }
+            }
+        """
+
+        when:
+        configurationCacheRun 'list'
+
+        then:
+        configurationCache.assertStateStored()
+
+        when:
+        configurationCacheRun 'list'
+
+        then:
+        configurationCache.assertStateLoaded()
+        outputContains 'foo classpath: [a.jar, b.jar, extra.jar]'
+        outputContains 'bar classpath: [a.jar, b.jar]'
+        outputContains 'foo sources: [a.txt]'
+        outputContains 'bar sources: [a.txt]'
+    }
+}
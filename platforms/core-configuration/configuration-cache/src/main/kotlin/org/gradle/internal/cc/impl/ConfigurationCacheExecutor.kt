@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+import org.gradle.internal.concurrent.ExecutorFactory
+import org.gradle.internal.concurrent.ManagedExecutor
+import org.gradle.internal.concurrent.Stoppable
+import org.gradle.internal.service.scopes.Scope
+import org.gradle.internal.service.scopes.ServiceScope
+import java.util.concurrent.Executor
+
+
+/**
+ * The threads the configuration cache runs its background work on, such as the checks of the file system inputs of a fingerprint
+ * and the pipelined writes of the work graph state files.
+ *
+ * The threads are only started on first use, and stopped once the build tree is done, after any pending work has completed.
+ */
+@ServiceScope(Scope.BuildTree::class)
+internal
+class ConfigurationCacheExecutor(
+    private val executorFactory: ExecutorFactory
+) : Executor, Stoppable {
+
+    private
+    val executor: Lazy<ManagedExecutor> = lazy {
+        executorFactory.create("Configuration cache", Runtime.getRuntime().availableProcessors())
+    }
+
+    override fun execute(command: Runnable) {
+        executor.value.execute(command)
+    }
+
+    override fun stop() {
+        if (executor.isInitialized()) {
+            executor.value.stop()
+        }
+    }
+}
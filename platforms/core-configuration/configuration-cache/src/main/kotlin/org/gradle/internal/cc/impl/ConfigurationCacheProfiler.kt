@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+import org.gradle.internal.cc.base.logger
+import org.gradle.internal.serialize.graph.ProfilingTracer
+import org.gradle.internal.service.scopes.Scope
+import org.gradle.internal.service.scopes.ServiceScope
+import org.gradle.problems.buildtree.ProblemReporter
+import org.gradle.problems.buildtree.ProblemReporter.ProblemConsumer
+import java.io.File
+import java.io.PrintWriter
+import java.util.Locale
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAdder
+
+
+/**
+ * Collects the bytes written and the time spent decoding per debug frame, that is per task type, bean type and property,
+ * when [profiling][org.gradle.internal.cc.impl.initialization.ConfigurationCacheStartParameter.isProfiling] is enabled.
+ *
+ * The collected figures are reported at the end of the build, sorted by the amount attributed to each frame itself.
+ */
+@ServiceScope(Scope.BuildTree::class)
+internal
+class ConfigurationCacheProfiler(
+    private val cacheKey: ConfigurationCacheKey
+) : ProblemReporter {
+
+    val bytesWritten = FrameStatistics()
+
+    val decodingTime = FrameStatistics()
+
+    override fun getId(): String {
+        return "configuration-cache-profile"
+    }
+
+    override fun report(reportDir: File, validationFailures: ProblemConsumer) {
+        if (bytesWritten.isEmpty && decodingTime.isEmpty) {
+            return
+        }
+        val reportFile = reportDir.resolve("reports/configuration-cache/$cacheKey/configuration-cache-profile.txt")
+        reportFile.parentFile.mkdirs()
+        reportFile.printWriter().use { writer ->
+            writer.printStatistics("Bytes written", bytesWritten) { bytes -> bytes.toString() }
+            writer.printStatistics("Decoding time (ms)", decodingTime) { nanos -> String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0) }
+        }
+        logger.lifecycle("Configuration cache profile written to {}", reportFile.toURI())
+    }
+
+    private
+    fun PrintWriter.printStatistics(title: String, statistics: FrameStatistics, format: (Long) -> String) {
+        if (statistics.isEmpty) {
+            return
+        }
+        println(title)
+        println(String.format(Locale.ROOT, "%14s %14s %10s  %s", "self", "total", "count", "frame"))
+        for ((frame, figures) in statistics.sortedBySelf()) {
+            println(String.format(Locale.ROOT, "%14s %14s %10d  %s", format(figures.self), format(figures.total), figures.count, frame))
+        }
+        println()
+    }
+
+    internal
+    class FrameStatistics : ProfilingTracer.Recorder {
+
+        private
+        val frames = ConcurrentHashMap<String, Accumulator>()
+
+        val isEmpty: Boolean
+            get() = frames.isEmpty()
+
+        override fun record(frame: String, self: Long, total: Long) {
+            frames.computeIfAbsent(frame) { Accumulator() }.run {
+                this.count.increment()
+                this.self.add(self)
+                this.total.add(total)
+            }
+        }
+
+        fun sortedBySelf(): List<Pair<String, Figures>> =
+            frames.entries
+                .map { (frame, accumulator) -> frame to accumulator.figures() }
+                .sortedByDescending { (_, figures) -> figures.self }
+    }
+
+    internal
+    data class Figures(val count: Long, val self: Long, val total: Long)
+
+    private
+    class Accumulator {
+        val count = LongAdder()
+        val self = LongAdder()
+        val total = LongAdder()
+
+        fun figures() = Figures(count.sum(), self.sum(), total.sum())
+    }
+}
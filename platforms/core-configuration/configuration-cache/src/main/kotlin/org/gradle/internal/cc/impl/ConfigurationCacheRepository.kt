@@ -36,6 +36,9 @@ import org.gradle.internal.concurrent.Stoppable
 import org.gradle.internal.extensions.stdlib.toDefaultLowerCase
 import org.gradle.internal.extensions.stdlib.unsafeLazy
 import org.gradle.internal.file.FileAccessTimeJournal
+import org.gradle.internal.file.MappedFileInputStream
+import org.gradle.internal.hash.Hasher
+import org.gradle.internal.hash.Hashing
 import org.gradle.internal.file.impl.SingleDepthFileAccessTracker
 import org.gradle.internal.nativeintegration.filesystem.FileSystem
 import org.gradle.internal.service.scopes.Scope
@@ -48,7 +51,15 @@ import java.io.OutputStream
 import java.nio.file.Files
 import java.nio.file.StandardCopyOption
 import java.util.Collections
+import java.util.UUID
 import java.util.function.Supplier
+import java.util.zip.ZipEntry
+import java.util.zip.ZipInputStream
+import java.util.zip.ZipOutputStream
+
+
+private
+const val ARCHIVE_CHECKSUM_ENTRY = "checksum.sha256"
 
 
 @ServiceScope(Scope.BuildSession::class)
@@ -64,6 +75,94 @@ class ConfigurationCacheRepository(
         return StoreImpl(dirForEntry(cacheKey))
     }
 
+    /**
+     * Packs the state files of the given entry into a single [archive] that can be imported by a build at the same locations on this machine.
+     *
+     * The archive ends with a checksum of the state files, verified by [importEntry].
+     */
+    fun exportEntry(entryId: String, archive: File) {
+        val archiveDir = archive.absoluteFile.parentFile.toPath()
+        Files.createDirectories(archiveDir)
+        val tempArchive = Files.createTempFile(archiveDir, archive.name, ".tmp")
+        try {
+            withExclusiveAccessToCache(dirForEntry(entryId)) { entryDir ->
+                ZipOutputStream(Files.newOutputStream(tempArchive).buffered()).use { zip ->
+                    val hasher = Hashing.sha256().newHasher()
+                    entryDir.listFiles { file -> file.isFile && !file.name.endsWith(".tmp") }?.sortedBy { it.name }?.forEach { file ->
+                        zip.putNextEntry(ZipEntry(file.name))
+                        hasher.putString(file.name)
+                        file.inputStream().use { it.copyTo(zip, hasher) }
+                        zip.closeEntry()
+                    }
+                    zip.putNextEntry(ZipEntry(ARCHIVE_CHECKSUM_ENTRY))
+                    zip.write(hasher.hash().toString().toByteArray())
+                    zip.closeEntry()
+                }
+            }
+            Files.move(tempArchive, archive.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        } finally {
+            Files.deleteIfExists(tempArchive)
+        }
+    }
+
+    /**
+     * Unpacks an [archive] created by [exportEntry] as a new entry.
+     *
+     * Nothing is left behind when the archive does not match its checksum.
+     *
+     * @return the id of the new entry
+     */
+    fun importEntry(archive: File): String {
+        val entryId = UUID.randomUUID().toString()
+        withExclusiveAccessToCache(dirForEntry(entryId)) { entryDir ->
+            Files.createDirectories(entryDir.toPath())
+            chmod(entryDir, 448) // octal 0700
+            markAccessed(entryDir)
+            try {
+                val hasher = Hashing.sha256().newHasher()
+                var expectedChecksum: String? = null
+                ZipInputStream(archive.inputStream().buffered()).use { zip ->
+                    generateSequence { zip.nextEntry }.forEach { entry ->
+                        require(expectedChecksum == null) {
+                            "Unexpected entry '${entry.name}' after the checksum in configuration cache archive '$archive'."
+                        }
+                        if (entry.name == ARCHIVE_CHECKSUM_ENTRY) {
+                            expectedChecksum = zip.readBytes().decodeToString()
+                            return@forEach
+                        }
+                        val file = entryDir.resolve(entry.name)
+                        require(!entry.isDirectory && file.parentFile == entryDir) {
+                            "Unexpected entry '${entry.name}' in configuration cache archive '$archive'."
+                        }
+                        hasher.putString(entry.name)
+                        file.outputStream().use { zip.copyTo(it, hasher) }
+                        chmod(file, 384) // octal 0600
+                    }
+                }
+                require(expectedChecksum == hasher.hash().toString()) {
+                    "Configuration cache archive '$archive' does not match its checksum."
+                }
+            } catch (e: Exception) {
+                entryDir.deleteRecursively()
+                throw e
+            }
+        }
+        return entryId
+    }
+
+    private
+    fun InputStream.copyTo(out: OutputStream, hasher: Hasher) {
+        val buffer = ByteArray(DEFAULT_BUFFER_SIZE)
+        while (true) {
+            val count = read(buffer)
+            if (count < 0) {
+                break
+            }
+            hasher.putBytes(buffer, 0, count)
+            out.write(buffer, 0, count)
+        }
+    }
+
     interface CleanupContext {
         val eligibleFilesFinder: FilesFinder
         fun dirForEntry(entry: String): File
@@ -133,6 +232,10 @@ class ConfigurationCacheRepository(
         override fun inputStream(): InputStream =
             file.also(onFileAccess).inputStream()
 
+        override fun mappedInputStream(): InputStream =
+            if (stateType.immutable) MappedFileInputStream.open(file.also(onFileAccess))
+            else inputStream()
+
         override fun delete() {
             throw UnsupportedOperationException()
         }
@@ -94,39 +94,43 @@ import java.io.OutputStream
 typealias BuildTreeWorkGraphBuilder = BuildTreeWorkGraph.Builder.(BuildState) -> Unit
 
 
+/**
+ * @property compressible whether the state may be compressed when stored
+ * @property immutable whether the state is written once per entry and never rewritten in place, so it can be read through a memory mapping
+ */
 internal
-enum class StateType(val encryptable: Boolean = false) {
+enum class StateType(val encryptable: Boolean = false, val compressible: Boolean = false, val immutable: Boolean = false) {
     /**
      * Contains the state for the entire build.
      */
-    Work(true),
+    Work(true, true, true),
 
     /**
      * Contains work-related state that is meant to be shared for the entire build.
      */
-    WorkShared(true),
+    WorkShared(true, true, true),
 
     /**
      * Contains the side effects observed during the creation of the [Model].
      */
-    ModelSideEffects(true),
+    ModelSideEffects(true, true, true),
 
     /**
      * Contains the model objects sent back to the IDE in response to a TAPI request.
      */
-    Model(true),
+    Model(true, true, true),
 
     /**
      * Contains the model objects queried by the IDE provided build action in order to calculate the model to send back.
      */
-    IntermediateModels(true),
+    IntermediateModels(true, true, true),
 
     /**
      * Contains the dependency resolution metadata for each project.
      */
-    ProjectMetadata(false),
-    BuildFingerprint(true),
-    ProjectFingerprint(true),
+    ProjectMetadata(false, true, true),
+    BuildFingerprint(true, true, true),
+    ProjectFingerprint(true, true, true),
 
     /**
      * The index file that points to all of these things
@@ -149,6 +153,9 @@ interface ConfigurationCacheStateFile {
     val name: String get() = "${stateFile.name} ($stateType)"
     fun outputStream(): OutputStream
     fun inputStream(): InputStream
+
+    // Reads through a memory mapping when the state is immutable, falls back to [inputStream] otherwise
+    fun mappedInputStream(): InputStream = inputStream()
     fun delete()
 
     // Replace the contents of this state file, by moving the given file to the location of this state file
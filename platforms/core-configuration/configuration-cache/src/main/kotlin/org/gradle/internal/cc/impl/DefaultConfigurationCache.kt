@@ -59,6 +59,7 @@ import org.gradle.internal.configuration.problems.StructuredMessage
 import org.gradle.internal.extensions.core.get
 import org.gradle.internal.extensions.stdlib.toDefaultLowerCase
 import org.gradle.internal.extensions.stdlib.uncheckedCast
+import org.gradle.internal.hash.Hashing
 import org.gradle.internal.model.CalculatedValueContainerFactory
 import org.gradle.internal.operations.BuildOperationRunner
 import org.gradle.internal.serialize.graph.CloseableWriteContext
@@ -97,7 +98,8 @@ class DefaultConfigurationCache internal constructor(
     private val fileSystemAccess: FileSystemAccess,
     private val calculatedValueContainerFactory: CalculatedValueContainerFactory,
     private val modelSideEffectExecutor: ConfigurationCacheBuildTreeModelSideEffectExecutor,
-    private val deferredRootBuildGradle: DeferredRootBuildGradle
+    private val deferredRootBuildGradle: DeferredRootBuildGradle,
+    private val pipelinedStateFileWriter: PipelinedStateFileWriter
 ) : BuildTreeConfigurationCache, Stoppable {
 
     private
@@ -107,6 +109,10 @@ class DefaultConfigurationCache internal constructor(
     private
     var cacheEntryRequiresCommit = false
 
+    // Has the entry been made visible to subsequent builds but not yet exported to the shared directory?
+    private
+    var cacheEntryRequiresExport = false
+
     private
     val host by lazy { deferredRootBuildGradle.gradle.services.get<HostServiceProvider>() }
 
@@ -297,13 +303,16 @@ class DefaultConfigurationCache internal constructor(
 
     override fun finalizeCacheEntry() {
         if (problems.shouldDiscardEntry) {
+            pipelinedStateFileWriter.awaitPendingWrites()
             discardEntry()
             cacheEntryRequiresCommit = false
         } else if (cacheEntryRequiresCommit) {
+            cacheEntryRequiresCommit = false
+            // The entry must only be committed once all of its state files have been written
+            pipelinedStateFileWriter.awaitPendingWrites()?.let { throw it }
             val projectUsage = collectProjectUsage()
             commitCacheEntry(projectUsage.reused)
             problems.projectStateStats(projectUsage.reused.size, projectUsage.updated.size)
-            cacheEntryRequiresCommit = false
             // Can reuse the cache entry for the rest of this build invocation
             cacheAction = ConfigurationCacheAction.Load(entryId)
         }
@@ -343,6 +352,8 @@ class DefaultConfigurationCache internal constructor(
             cacheIO.writeCacheEntryDetailsTo(buildStateRegistry, usedModels, usedMetadata, sideEffects, fileFor(StateType.Entry))
         }
         updateMostRecentEntry(entryId)
+        // Exported once the build has completed, to keep it off the critical path
+        cacheEntryRequiresExport = startParameter.samePathSharedCacheDirectory != null
     }
 
     private
@@ -433,6 +444,10 @@ class DefaultConfigurationCache internal constructor(
         StructuredMessage.forText(String.format(Locale.US, message, *args))
 
     override fun stop() {
+        if (cacheEntryRequiresExport) {
+            cacheEntryRequiresExport = false
+            exportSharedEntry()
+        }
         val stoppable = CompositeStoppable.stoppable()
         stoppable.addIfInitialized(lazyBuildTreeModelSideEffects)
         stoppable.addIfInitialized(lazyIntermediateModels)
@@ -452,14 +467,57 @@ class DefaultConfigurationCache internal constructor(
     private
     fun checkFingerprint(): CheckedFingerprint = buildOperationRunner.withFingerprintCheckOperations {
         val candidates = loadCandidateEntries()
-        val searchResult = searchForValidEntry(candidates)
+        val importedCandidates = if (candidates.isEmpty()) importSharedEntry() else emptyList()
+        val searchResult = searchForValidEntry(candidates + importedCandidates)
         val checkedFingerprint = searchResult.checkedFingerprint
         if (checkedFingerprint is CheckedFingerprint.Valid) {
             updateMostRecentEntry(checkedFingerprint.entryId)
+        } else {
+            scheduleForCollection(importedCandidates)
         }
         searchResult
     }
 
+    /**
+     * The archive is named after the cache key together with the locations of the build and of the Gradle user home,
+     * as an entry can only be reused by a build at the same locations.
+     */
+    private
+    val sharedEntryArchive: File?
+        get() = startParameter.samePathSharedCacheDirectory?.let { sharedCacheDirectory ->
+            val archiveName = Hashing.md5().newHasher().run {
+                putString(cacheKey.string)
+                putString(startParameter.rootDirectory.absolutePath)
+                putString(startParameter.gradleUserHomeDir.absolutePath)
+                hash().toCompactString()
+            }
+            sharedCacheDirectory.resolve("$archiveName.zip")
+        }
+
+    private
+    fun importSharedEntry(): List<CandidateEntry> {
+        val archive = sharedEntryArchive?.takeIf { it.isFile }
+            ?: return emptyList()
+        return try {
+            listOf(CandidateEntry(cacheRepository.importEntry(archive)))
+        } catch (e: Exception) {
+            // Sharing entries is best-effort, fall back to running configuration
+            logger.info("Could not import the shared configuration cache entry from '$archive'.", e)
+            emptyList()
+        }
+    }
+
+    private
+    fun exportSharedEntry() {
+        val archive = sharedEntryArchive
+            ?: return
+        try {
+            cacheRepository.exportEntry(entryId, archive)
+        } catch (e: Exception) {
+            logger.info("Could not export the configuration cache entry to '$archive'.", e)
+        }
+    }
+
     private
     fun searchForValidEntry(candidates: List<CandidateEntry>): EntrySearchResult {
         var firstInvalidResult: EntrySearchResult? = null
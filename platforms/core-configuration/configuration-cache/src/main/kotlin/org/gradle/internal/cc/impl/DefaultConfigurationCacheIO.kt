@@ -16,6 +16,8 @@
 
 package org.gradle.internal.cc.impl
 
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream
 import org.gradle.api.logging.LogLevel
 import org.gradle.cache.internal.streams.BlockAddress
 import org.gradle.cache.internal.streams.BlockAddressSerializer
@@ -59,6 +61,7 @@ import org.gradle.internal.serialize.graph.InlineStringDecoder
 import org.gradle.internal.serialize.graph.InlineStringEncoder
 import org.gradle.internal.serialize.graph.LoggingTracer
 import org.gradle.internal.serialize.graph.MutableReadContext
+import org.gradle.internal.serialize.graph.ProfilingTracer
 import org.gradle.internal.serialize.graph.ReadContext
 import org.gradle.internal.serialize.graph.SharedObjectDecoder
 import org.gradle.internal.serialize.graph.SharedObjectEncoder
@@ -101,7 +104,9 @@ class DefaultConfigurationCacheIO internal constructor(
     private val eventEmitter: BuildOperationProgressEventEmitter,
     private val classLoaderScopeRegistryListener: ConfigurationCacheClassLoaderScopeRegistryListener,
     private val classLoaderScopeRegistry: ClassLoaderScopeRegistry,
-    private val instantiatorFactory: InstantiatorFactory
+    private val instantiatorFactory: InstantiatorFactory,
+    private val pipelinedStateFileWriter: PipelinedStateFileWriter,
+    private val profiler: ConfigurationCacheProfiler
 ) : ConfigurationCacheBuildTreeIO, ConfigurationCacheIncludedBuildIO {
 
     private
@@ -272,14 +277,14 @@ class DefaultConfigurationCacheIO internal constructor(
     private
     fun stringEncoderFor(stringsFile: ConfigurationCacheStateFile): StringEncoder =
         if (isUsingParallelStringDeduplicationStrategy(stringsFile))
-            outputStreamFor(stringsFile.stateType, stringsFile::outputStream).let(::ParallelStringEncoder)
+            outputStreamFor(stringsFile).let(::ParallelStringEncoder)
         else
             InlineStringEncoder
 
     private
     fun stringDecoderFor(stringsFile: ConfigurationCacheStateFile): StringDecoder =
         if (isUsingParallelStringDeduplicationStrategy(stringsFile))
-            inputStreamFor(stringsFile.stateType, stringsFile::inputStream).let(::ParallelStringDecoder)
+            inputStreamFor(stringsFile).let(::ParallelStringDecoder)
         else
             InlineStringDecoder
 
@@ -346,9 +351,11 @@ class DefaultConfigurationCacheIO internal constructor(
         specialDecoders: SpecialDecoders,
         stateFile: ConfigurationCacheStateFile,
         action: suspend MutableReadContext.(ConfigurationCacheState) -> T
-    ) = withReadContextFor(stateFile, specialDecoders) { codecs ->
-        ConfigurationCacheState(codecs, stateFile, ChildContextSource(stateFile), eventEmitter, host).run {
-            action(this)
+    ) = readContextFor(stateFile, specialDecoders).let { (context, codecs) ->
+        withReadContextFor(context, codecs) {
+            ConfigurationCacheState(codecs, stateFile, ChildContextSource(stateFile), eventEmitter, host).run {
+                action(this)
+            }
         }
     }
 
@@ -361,8 +368,10 @@ class DefaultConfigurationCacheIO internal constructor(
         val profile = {
             host.currentBuild.gradle.owner.displayName.displayName + " state"
         }
-        return withWriteContextFor(stateFile, profile, specialEncoders) { codecs ->
-            action(ConfigurationCacheState(codecs, stateFile, ChildContextSource(stateFile), eventEmitter, host))
+        return writeContextFor(stateFile, specialEncoders, profile).let { (context, codecs) ->
+            context.writeWith(codecs) {
+                action(ConfigurationCacheState(codecs, stateFile, ChildContextSource(stateFile), eventEmitter, host))
+            }
         }
     }
 
@@ -387,7 +396,7 @@ class DefaultConfigurationCacheIO internal constructor(
         stateFile: ConfigurationCacheStateFile,
         specialEncoders: SpecialEncoders,
         profile: () -> String
-    ) = writeContextFor(stateFile.stateFile.name, stateFile.stateType, stateFile::outputStream, profile, specialEncoders)
+    ) = writeContextFor(stateFile.stateFile.name, encoderFor(stateFile.stateType, outputStreamFor(stateFile)), profile, specialEncoders)
 
     /**
      * @param profile the unique name associated with the output stream for debugging space usage issues
@@ -399,43 +408,88 @@ class DefaultConfigurationCacheIO internal constructor(
         profile: () -> String,
         specialEncoders: SpecialEncoders,
     ): Pair<CloseableWriteContext, Codecs> =
-        encoderFor(stateType, outputStream).let { encoder ->
-            writeContextFor(
-                name,
-                encoder,
-                loggingTracerFor(profile, encoder),
-                codecs,
-                specialEncoders
-            ) to codecs
-        }
+        writeContextFor(name, encoderFor(stateType, outputStreamFor(stateType, outputStream)), profile, specialEncoders)
 
     private
-    fun encoderFor(stateType: StateType, outputStream: () -> OutputStream): PositionAwareEncoder =
-        outputStreamFor(stateType, outputStream).let { stream ->
-            if (isUsingSequentialStringDeduplicationStrategy(stateType)) StringDeduplicatingKryoBackedEncoder(stream)
-            else KryoBackedEncoder(stream)
-        }
+    fun writeContextFor(
+        name: String,
+        encoder: PositionAwareEncoder,
+        profile: () -> String,
+        specialEncoders: SpecialEncoders
+    ): Pair<CloseableWriteContext, Codecs> =
+        writeContextFor(
+            name,
+            encoder,
+            tracerFor(profile, encoder),
+            codecs,
+            specialEncoders
+        ) to codecs
+
+    private
+    fun encoderFor(stateType: StateType, stream: OutputStream): PositionAwareEncoder =
+        if (isUsingSequentialStringDeduplicationStrategy(stateType)) StringDeduplicatingKryoBackedEncoder(stream)
+        else KryoBackedEncoder(stream)
+
+    private
+    fun decoderFor(stateType: StateType, stream: InputStream): Decoder =
+        if (isUsingSequentialStringDeduplicationStrategy(stateType)) StringDeduplicatingKryoBackedDecoder(stream)
+        else KryoBackedDecoder(stream)
+
+    /**
+     * The work graph state files may be [pipelined][PipelinedStateFileWriter], in which case they are only read back
+     * once they have been completely written.
+     */
+    private
+    fun outputStreamFor(stateFile: ConfigurationCacheStateFile): OutputStream =
+        if (pipelinedStateFileWriter.isPipelining(stateFile.stateType))
+            pipelinedStateFileWriter.outputStreamFor(stateFile.stateFile.file, stateFile::outputStream) { fileStream ->
+                outputStreamFor(stateFile.stateType) { fileStream }
+            }
+        else outputStreamFor(stateFile.stateType, stateFile::outputStream)
 
     private
-    fun decoderFor(stateType: StateType, inputStream: () -> InputStream): Decoder =
-        inputStreamFor(stateType, inputStream).let { stream ->
-            if (isUsingSequentialStringDeduplicationStrategy(stateType)) StringDeduplicatingKryoBackedDecoder(stream)
-            else KryoBackedDecoder(stream)
+    fun inputStreamFor(stateFile: ConfigurationCacheStateFile): InputStream {
+        if (pipelinedStateFileWriter.isPipelining(stateFile.stateType)) {
+            pipelinedStateFileWriter.awaitWriteOf(stateFile.stateFile.file)
         }
+        return inputStreamFor(stateFile.stateType, if (startParameter.isMappingStateFiles) stateFile::mappedInputStream else stateFile::inputStream)
+    }
 
+    /**
+     * Compression is applied before encryption, since encrypted data does not compress.
+     */
     private
     fun outputStreamFor(stateType: StateType, outputStream: () -> OutputStream) =
-        maybeEncrypt(stateType, outputStream, encryptionService::outputStream)
+        maybeCompress(stateType, { maybeEncrypt(stateType, outputStream, encryptionService::outputStream) }, ::compressingOutputStream)
 
     private
     fun inputStreamFor(stateType: StateType, inputStream: () -> InputStream) =
-        maybeEncrypt(stateType, inputStream, encryptionService::inputStream)
+        maybeCompress(stateType, { maybeEncrypt(stateType, inputStream, encryptionService::inputStream) }, ::decompressingInputStream)
 
     private
     fun <I : Closeable, O : I> maybeEncrypt(stateType: StateType, inner: () -> I, outer: (I) -> O): I =
         if (stateType.encryptable) safeWrap(inner, outer)
         else inner()
 
+    private
+    fun <I : Closeable, O : I> maybeCompress(stateType: StateType, inner: () -> I, outer: (I) -> O): I =
+        if (stateType.compressible && startParameter.isCompressing) safeWrap(inner, outer)
+        else inner()
+
+    /**
+     * Uses the LZ4 frame format with independent blocks and without checksums, favoring speed over compression ratio.
+     */
+    private
+    fun compressingOutputStream(outputStream: OutputStream): OutputStream =
+        FramedLZ4CompressorOutputStream(
+            outputStream,
+            FramedLZ4CompressorOutputStream.Parameters(FramedLZ4CompressorOutputStream.BlockSize.K256, false, false, false)
+        )
+
+    private
+    fun decompressingInputStream(inputStream: InputStream): InputStream =
+        FramedLZ4CompressorInputStream(inputStream)
+
     /**
      * For the [work graph state][StateType.Work], we use the parallel string deduplication strategy since it spans multiple files,
      * for everything else we use the sequential, per encoder/decoder, deduplication strategy.
@@ -456,12 +510,24 @@ class DefaultConfigurationCacheIO internal constructor(
     fun isUsingObjectSharingStrategy(stateFile: ConfigurationCacheStateFile) =
         stateFile.stateType == StateType.Work && startParameter.isSharingObjects
 
+    private
+    fun tracerFor(profile: () -> String, encoder: PositionAwareEncoder): Tracer? =
+        loggingTracerFor(profile, encoder).let { loggingTracer ->
+            if (startParameter.isProfiling) ProfilingTracer(encoder::getWritePosition, profiler.bytesWritten, loggingTracer)
+            else loggingTracer
+        }
+
     private
     fun loggingTracerFor(profile: () -> String, encoder: PositionAwareEncoder) =
         loggingTracerLogLevel()?.let { level ->
             LoggingTracer(profile(), encoder::getWritePosition, logger, level)
         }
 
+    private
+    fun decodingTracer(): Tracer? =
+        if (startParameter.isProfiling) ProfilingTracer(System::nanoTime, profiler.decodingTime)
+        else null
+
     private
     fun loggingTracerLogLevel(): LogLevel? = when {
         startParameter.isDebug -> LogLevel.LIFECYCLE
@@ -518,14 +584,14 @@ class DefaultConfigurationCacheIO internal constructor(
     private fun readContextFor(
         stateFile: ConfigurationCacheStateFile,
         specialDecoders: SpecialDecoders = SpecialDecoders()
-    ) = readContextFor(stateFile.stateFile.name, stateFile.stateType, stateFile::inputStream, specialDecoders)
+    ) = readContextFor(stateFile.stateFile.name, decoderFor(stateFile.stateType, inputStreamFor(stateFile)), specialDecoders)
 
     private fun readContextFor(
         name: String,
         stateType: StateType,
         inputStream: () -> InputStream,
         specialDecoders: SpecialDecoders
-    ) = readContextFor(name, decoderFor(stateType, inputStream), specialDecoders)
+    ) = readContextFor(name, decoderFor(stateType, inputStreamFor(stateType, inputStream)), specialDecoders)
 
     override fun <T> runReadOperation(decoder: Decoder, readOperation: suspend ReadContext.(codecs: Codecs) -> T): T {
         val (context, codecs) = readContextFor("unnamed", decoder, SpecialDecoders())
@@ -572,7 +638,8 @@ class DefaultConfigurationCacheIO internal constructor(
         logger,
         problems,
         classDecoder(),
-        specialDecoders
+        specialDecoders,
+        decodingTracer()
     )
 
     private
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+import org.gradle.internal.cc.impl.initialization.ConfigurationCacheStartParameter
+import org.gradle.internal.cc.impl.io.safeWrap
+import org.gradle.internal.service.scopes.Scope
+import org.gradle.internal.service.scopes.ServiceScope
+import java.io.File
+import java.io.OutputStream
+import java.util.ArrayDeque
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+
+
+private
+const val CHUNK_SIZE = 256 * 1024
+
+
+private
+const val MAX_PENDING_CHUNKS = 4
+
+
+/**
+ * Takes the encoding and the writing of the work graph state files off the threads that serialize the work graph,
+ * so the serialization of the work graph and the writing of its state files overlap.
+ *
+ * The serialized content of a state file is handed over in chunks to background tasks, which compress, encrypt and write
+ * the chunks of the file in order. At most [MAX_PENDING_CHUNKS] chunks of a file are held in memory,
+ * the serializing thread waits for the pending chunks to be written otherwise.
+ * A state file is only opened once its first chunk is written.
+ *
+ * Only the store is pipelined: an entry must not be committed before [awaitPendingWrites] returns without a failure,
+ * and the work graph is only loaded back from a state file, and executed, once the file has been completely written.
+ */
+@ServiceScope(Scope.BuildTree::class)
+internal
+class PipelinedStateFileWriter(
+    private val startParameter: ConfigurationCacheStartParameter,
+    private val executor: ConfigurationCacheExecutor
+) {
+
+    private
+    val pendingWrites = ConcurrentHashMap<File, CompletableFuture<Void>>()
+
+    fun isPipelining(stateType: StateType): Boolean =
+        startParameter.isPipeliningStore && (stateType == StateType.Work || stateType == StateType.WorkShared)
+
+    /**
+     * Returns a stream that writes the content written to it to [file], through the [encoding] stream, on background threads.
+     */
+    fun outputStreamFor(file: File, fileOutputStream: () -> OutputStream, encoding: (OutputStream) -> OutputStream): OutputStream =
+        PipelinedOutputStream(file, fileOutputStream, encoding)
+
+    /**
+     * Waits for [file] to be completely written, when it was written through [outputStreamFor].
+     */
+    fun awaitWriteOf(file: File) {
+        val write = pendingWrites[file]
+            ?: return
+        try {
+            write.get()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    /**
+     * Waits for all pending writes.
+     *
+     * @return the failure of the first write that failed, or `null` when all files were written.
+     */
+    fun awaitPendingWrites(): Throwable? {
+        var failure: Throwable? = null
+        for (write in pendingWrites.values) {
+            try {
+                write.get()
+            } catch (e: ExecutionException) {
+                val cause = e.cause ?: e
+                if (failure == null) failure = cause
+                else failure.addSuppressed(cause)
+            }
+        }
+        pendingWrites.clear()
+        return failure
+    }
+
+    private
+    inner class PipelinedOutputStream(
+        private val file: File,
+        private val fileOutputStream: () -> OutputStream,
+        private val encoding: (OutputStream) -> OutputStream
+    ) : OutputStream() {
+
+        private
+        var chunk = ByteArray(CHUNK_SIZE)
+
+        private
+        var count = 0
+
+        private
+        var closed = false
+
+        // The chunks handed over to the background tasks and not known to be written yet
+        private
+        val pendingChunks = ArrayDeque<CompletableFuture<Void>>()
+
+        private
+        var lastChunk: CompletableFuture<Void> = CompletableFuture.completedFuture(null)
+
+        // Only accessed by the background tasks, which run one after the other
+        private
+        var target: OutputStream? = null
+
+        override fun write(b: Int) {
+            if (count == chunk.size) {
+                handOverChunk()
+            }
+            chunk[count++] = b.toByte()
+        }
+
+        override fun write(b: ByteArray, off: Int, len: Int) {
+            var offset = off
+            var remaining = len
+            while (remaining > 0) {
+                if (count == chunk.size) {
+                    handOverChunk()
+                }
+                val length = minOf(remaining, chunk.size - count)
+                System.arraycopy(b, offset, chunk, count, length)
+                count += length
+                offset += length
+                remaining -= length
+            }
+        }
+
+        override fun close() {
+            if (closed) {
+                return
+            }
+            closed = true
+            if (count > 0) {
+                handOverChunk()
+            }
+            pendingWrites[file] = lastChunk.whenCompleteAsync({ _, failure ->
+                if (failure == null) {
+                    // Creates the file when nothing was written to it
+                    targetStream().close()
+                } else {
+                    target?.close()
+                }
+            }, executor)
+        }
+
+        private
+        fun handOverChunk() {
+            val bytes = chunk
+            val size = count
+            chunk = ByteArray(CHUNK_SIZE)
+            count = 0
+            lastChunk = lastChunk.thenRunAsync({ targetStream().write(bytes, 0, size) }, executor)
+            pendingChunks.addLast(lastChunk)
+            while (pendingChunks.isNotEmpty() && (pendingChunks.size > MAX_PENDING_CHUNKS || pendingChunks.peekFirst().isDone)) {
+                // A failure is reported by awaitPendingWrites
+                pendingChunks.removeFirst().exceptionally { null }.join()
+            }
+        }
+
+        private
+        fun targetStream(): OutputStream =
+            target ?: safeWrap(fileOutputStream, encoding).also { target = it }
+    }
+}
@@ -38,6 +38,10 @@ import org.gradle.internal.util.NumberUtil.ordinal
 import org.gradle.util.Path
 import java.io.File
 import java.net.URI
+import java.util.ArrayDeque
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executor
+import java.util.concurrent.FutureTask
 import java.util.function.Consumer
 
 
@@ -45,8 +49,20 @@ internal
 typealias InvalidationReason = StructuredMessage
 
 
+private
+const val MAX_PENDING_FILE_SYSTEM_CHECKS = 256
+
+
+/**
+ * Checks the inputs of a fingerprint in the order they were recorded.
+ *
+ * File system inputs, which cannot run any build logic, are checked on the given [fileSystemCheckExecutor] while the following inputs are read.
+ */
 internal
-class ConfigurationCacheFingerprintChecker(private val host: Host) {
+class ConfigurationCacheFingerprintChecker(
+    private val host: Host,
+    private val fileSystemCheckExecutor: Executor = Executor(Runnable::run)
+) {
 
     interface Host {
         val isEncrypted: Boolean
@@ -72,21 +88,40 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
 
     suspend fun ReadContext.checkBuildScopedFingerprint(): InvalidationReason? {
         // TODO: log some debug info
-        while (true) {
-            when (val input = read()) {
-                null -> break
-                is ConfigurationCacheFingerprint -> {
-                    // An input that is not specific to a project. If it is out-of-date, then invalidate the whole cache entry and skip any further checks
-                    val reason = check(input)
-                    if (reason != null) {
-                        return reason
-                    }
+        return FileSystemChecks<ConfigurationCacheFingerprint>().use { fileSystemChecks ->
+            while (true) {
+                // Don't read any further once a file system input is known to be out-of-date
+                fileSystemChecks.awaitFirstReason(
+                    keepPending = if (fileSystemChecks.hasFoundOutOfDateInput) 0 else MAX_PENDING_FILE_SYSTEM_CHECKS - 1
+                )?.let { return it }
+
+                val input = try {
+                    read()
+                } catch (e: Exception) {
+                    // An input recorded after an out-of-date file may no longer be readable, for instance when it refers to build logic that has changed
+                    fileSystemChecks.awaitFirstReason()?.let { return it }
+                    throw e
                 }
+                when (input) {
+                    null -> break
+
+                    is ConfigurationCacheFingerprint -> {
+                        // An input that is not specific to a project. If it is out-of-date, then invalidate the whole cache entry and skip any further checks
+                        if (input.isFileSystemInput()) {
+                            fileSystemChecks.add(input, input)
+                        } else {
+                            val reason = fileSystemChecks.awaitFirstReason() ?: check(input)
+                            if (reason != null) {
+                                return reason
+                            }
+                        }
+                    }
 
-                else -> error("Unexpected configuration cache fingerprint: $input")
+                    else -> error("Unexpected configuration cache fingerprint: $input")
+                }
             }
+            fileSystemChecks.awaitFirstReason()
         }
-        return null
     }
 
     @Suppress("NestedBlockDepth")
@@ -94,9 +129,9 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
         // TODO: log some debug info
         var firstInvalidatedPath: Path? = null
         val projects = hashMapOf<Path, ProjectInvalidationState>()
-        while (true) {
-            when (val input = read()) {
-                null -> break
+
+        fun checkInOrder(input: Any, checkValue: () -> InvalidationReason?) {
+            when (input) {
                 is ProjectSpecificFingerprint.ProjectIdentity -> {
                     val state = projects.entryFor(input.identityPath)
                     state.buildPath = input.buildPath
@@ -108,7 +143,7 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
                     // Don't check a value for a project that is already out-of-date
                     val state = projects.entryFor(input.projectIdentityPath)
                     if (!state.isInvalid) {
-                        val reason = check(input.value)
+                        val reason = checkValue()
                         if (reason != null) {
                             if (firstInvalidatedPath == null) {
                                 firstInvalidatedPath = input.projectIdentityPath
@@ -136,6 +171,23 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
                 else -> error("Unexpected configuration cache fingerprint: $input")
             }
         }
+
+        FileSystemChecks<Any>().use { fileSystemChecks ->
+            while (true) {
+                while (fileSystemChecks.isFull) {
+                    fileSystemChecks.awaitNext(::checkInOrder)
+                }
+                val input = read() ?: break
+                if (input is ProjectSpecificFingerprint.ProjectFingerprint && !input.value.isFileSystemInput()) {
+                    // The value may run build logic, only check it once all the inputs recorded before it have been applied
+                    fileSystemChecks.awaitAll(::checkInOrder)
+                    checkInOrder(input) { check(input.value) }
+                } else {
+                    fileSystemChecks.add(input, (input as? ProjectSpecificFingerprint.ProjectFingerprint)?.value)
+                }
+            }
+            fileSystemChecks.awaitAll(::checkInOrder)
+        }
         return firstInvalidatedPath?.let { path ->
             CheckedFingerprint.InvalidProjects(
                 path,
@@ -178,6 +230,15 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
     private
     fun MutableMap<Path, ProjectInvalidationState>.entryFor(path: Path) = computeIfAbsent(path, ::ProjectInvalidationState)
 
+    private
+    fun ConfigurationCacheFingerprint.isFileSystemInput() = when (this) {
+        is ConfigurationCacheFingerprint.InputFile,
+        is ConfigurationCacheFingerprint.DirectoryChildren,
+        is ConfigurationCacheFingerprint.InputFileSystemEntry -> true
+
+        else -> false
+    }
+
     @Suppress("CyclomaticComplexMethod", "LongMethod")
     private
     fun check(input: ConfigurationCacheFingerprint): InvalidationReason? = structuredMessageOrNull {
@@ -444,6 +505,80 @@ class ConfigurationCacheFingerprintChecker(private val host: Host) {
         )
     }
 
+    /**
+     * The file system inputs read so far, checked in the background, along with the other inputs read since the first of them.
+     *
+     * The inputs are handed back in the order they were read, each with the result of its check, if any.
+     */
+    private
+    inner class FileSystemChecks<T : Any> : AutoCloseable {
+
+        private
+        val pending = ArrayDeque<Pair<T, FutureTask<InvalidationReason?>?>>()
+
+        @Volatile
+        var hasFoundOutOfDateInput = false
+            private set
+
+        val isFull: Boolean
+            get() = pending.size >= MAX_PENDING_FILE_SYSTEM_CHECKS
+
+        fun add(input: T, fileSystemInput: ConfigurationCacheFingerprint?) {
+            val result = fileSystemInput?.let {
+                FutureTask<InvalidationReason?> {
+                    check(fileSystemInput).also { reason ->
+                        if (reason != null) {
+                            hasFoundOutOfDateInput = true
+                        }
+                    }
+                }.also(fileSystemCheckExecutor::execute)
+            }
+            pending.addLast(input to result)
+        }
+
+        /**
+         * Removes the first pending input and passes it to the given [consumer], along with a function that waits for the result of its check.
+         */
+        fun awaitNext(consumer: (T, () -> InvalidationReason?) -> Unit) {
+            val (input, result) = pending.removeFirst()
+            var isResultUsed = false
+            consumer(input) {
+                isResultUsed = true
+                try {
+                    result!!.get()
+                } catch (e: ExecutionException) {
+                    // Surface the failure as if the input was checked by the caller
+                    throw e.cause!!
+                }
+            }
+            if (!isResultUsed) {
+                result?.cancel(false)
+            }
+        }
+
+        fun awaitAll(consumer: (T, () -> InvalidationReason?) -> Unit) {
+            while (pending.isNotEmpty()) {
+                awaitNext(consumer)
+            }
+        }
+
+        /**
+         * Waits for the pending checks in order, until one of them finds its input out-of-date or only [keepPending] checks are left.
+         */
+        fun awaitFirstReason(keepPending: Int = 0): InvalidationReason? {
+            var reason: InvalidationReason? = null
+            while (reason == null && pending.size > keepPending) {
+                awaitNext { _, result -> reason = result() }
+            }
+            return reason
+        }
+
+        override fun close() {
+            pending.forEach { (_, result) -> result?.cancel(false) }
+            pending.clear()
+        }
+    }
+
     private
     class ProjectInvalidationState(private val identityPath: Path) {
         var buildPath: Path? = null
@@ -29,6 +29,7 @@ import org.gradle.initialization.buildsrc.BuildSrcDetector
 import org.gradle.internal.build.BuildStateRegistry
 import org.gradle.internal.buildtree.BuildModelParameters
 import org.gradle.internal.cc.base.services.ConfigurationCacheEnvironmentChangeTracker
+import org.gradle.internal.cc.impl.ConfigurationCacheExecutor
 import org.gradle.internal.cc.impl.ConfigurationCacheStateFile
 import org.gradle.internal.cc.impl.ConfigurationCacheStateStore.StateFile
 import org.gradle.internal.cc.impl.InputTrackingState
@@ -101,6 +102,7 @@ class ConfigurationCacheFingerprintController internal constructor(
     private val encryptionService: EncryptionService,
     private val configurationTimeBarrier: ConfigurationTimeBarrier,
     private val buildStateRegistry: BuildStateRegistry,
+    private val fileSystemCheckExecutor: ConfigurationCacheExecutor,
 ) : Stoppable, ProjectScopedScriptResolution {
 
     interface Host {
@@ -351,12 +353,12 @@ class ConfigurationCacheFingerprintController internal constructor(
     }
 
     suspend fun ReadContext.checkBuildScopedFingerprint(host: Host) =
-        ConfigurationCacheFingerprintChecker(CacheFingerprintCheckerHost(host)).run {
+        ConfigurationCacheFingerprintChecker(CacheFingerprintCheckerHost(host), fileSystemCheckExecutor).run {
             checkBuildScopedFingerprint()
         }
 
     suspend fun ReadContext.checkProjectScopedFingerprint(host: Host) =
-        ConfigurationCacheFingerprintChecker(CacheFingerprintCheckerHost(host)).run {
+        ConfigurationCacheFingerprintChecker(CacheFingerprintCheckerHost(host), fileSystemCheckExecutor).run {
             checkProjectScopedFingerprint()
         }
 
@@ -29,6 +29,7 @@ import org.gradle.internal.cc.impl.ConfigurationCacheLoggingParameters
 import org.gradle.internal.cc.impl.Workarounds
 import org.gradle.internal.deprecation.DeprecationLogger
 import org.gradle.internal.extensions.core.getInternalFlag
+import org.gradle.internal.extensions.core.getInternalString
 import org.gradle.internal.extensions.stdlib.unsafeLazy
 import org.gradle.internal.service.scopes.Scope
 import org.gradle.internal.service.scopes.ServiceScope
@@ -104,6 +105,59 @@ class ConfigurationCacheStartParameter internal constructor(
      */
     val isSharingObjects: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.share-objects", true)
 
+    /**
+     * Whether the configuration cache state files should be compressed
+     * in order to save space on disk and to read less data on a cache hit.
+     *
+     * The default is `false`.
+     */
+    val isCompressing: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.compress", false)
+
+    /**
+     * Whether the immutable state files of an entry should be read through a memory mapping on a cache hit,
+     * rather than through plain file streams.
+     *
+     * The default is `true`.
+     */
+    val isMappingStateFiles: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.map-state-files", true)
+
+    /**
+     * Whether the work graph state files should be compressed, encrypted and written to disk
+     * on background threads, while the work graph is still being serialized.
+     *
+     * Only the serialization of the work graph is pipelined with the writes. The entry is committed, and the work graph
+     * loaded back and executed, once the state files have been completely written.
+     *
+     * The default is `false`.
+     */
+    val isPipeliningStore: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.pipelined-store", false)
+
+    /**
+     * Whether the bytes written and the time spent decoding should be recorded per task type, bean type and property,
+     * and reported under `build/reports/configuration-cache`.
+     *
+     * The default is `false`.
+     */
+    val isProfiling: Boolean = options.getInternalFlag("org.gradle.configuration-cache.internal.profile", false)
+
+    /**
+     * A directory on this machine where stored configuration cache entries are published,
+     * and where an entry is looked up when none is available locally, for instance after the checkout was recreated.
+     * A relative path is resolved against the root directory of the build.
+     *
+     * Entries are not relocatable, as their state and fingerprint track absolute paths.
+     * They are only shared between builds with the same root directory and Gradle user home, and other builds never see them.
+     * Sharing between machines or checkouts at different locations is not supported.
+     *
+     * A loaded entry runs the build logic it contains, and its checksum only detects corrupted or incomplete entries,
+     * so the directory must only be writable by trusted builds.
+     *
+     * The default is `null`, entries are not shared.
+     */
+    val samePathSharedCacheDirectory: File? = options.getInternalString("org.gradle.configuration-cache.internal.same-path-shared-cache-dir", null)?.let {
+        buildLayout.rootDirectory.resolve(it)
+    }
+
     /**
      * Whether configuration cache storing/loading should be done in parallel.
      *
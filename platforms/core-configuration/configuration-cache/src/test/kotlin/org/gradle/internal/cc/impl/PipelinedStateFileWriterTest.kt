@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.cc.impl
+
+import org.gradle.api.internal.StartParameterInternal
+import org.gradle.api.logging.LogLevel
+import org.gradle.initialization.layout.BuildLayout
+import org.gradle.internal.buildoption.DefaultInternalOptions
+import org.gradle.internal.cc.impl.initialization.ConfigurationCacheStartParameter
+import org.gradle.internal.cc.impl.services.DefaultBuildModelParameters
+import org.gradle.internal.concurrent.DefaultExecutorFactory
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.hamcrest.CoreMatchers.equalTo
+import org.hamcrest.CoreMatchers.instanceOf
+import org.hamcrest.CoreMatchers.nullValue
+import org.hamcrest.MatcherAssert.assertThat
+import org.junit.After
+import org.junit.Rule
+import org.junit.Test
+import java.io.File
+import java.io.FilterOutputStream
+import java.io.IOException
+import java.io.OutputStream
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+
+class PipelinedStateFileWriterTest {
+
+    @JvmField
+    @Rule
+    val testDirectoryProvider = TestNameTestDirectoryProvider(javaClass)
+
+    private
+    val executorFactory = DefaultExecutorFactory()
+
+    private
+    val writer = PipelinedStateFileWriter(startParameter(pipelined = true), ConfigurationCacheExecutor(executorFactory))
+
+    @After
+    fun stopExecutor() {
+        executorFactory.stop()
+    }
+
+    @Test
+    fun `only pipelines the work graph state files`() {
+        assertThat(writer.isPipelining(StateType.Work), equalTo(true))
+        assertThat(writer.isPipelining(StateType.WorkShared), equalTo(true))
+        assertThat(writer.isPipelining(StateType.Model), equalTo(false))
+        assertThat(
+            PipelinedStateFileWriter(startParameter(pipelined = false), ConfigurationCacheExecutor(executorFactory)).isPipelining(StateType.Work),
+            equalTo(false)
+        )
+    }
+
+    @Test
+    fun `serialization completes while the state file is still being written`() {
+        val file = file("state.bin")
+        val fileOpened = CountDownLatch(1)
+        val writeAllowed = CountDownLatch(1)
+        val content = content(3 * 256 * 1024 + 17)
+
+        // The content of several chunks is handed over while the first chunk cannot be written yet
+        writer.outputStreamFor(file, {
+            fileOpened.countDown()
+            writeAllowed.await()
+            file.outputStream()
+        }) { it }.use { stream ->
+            stream.write(content)
+        }
+
+        assertThat(fileOpened.await(10, TimeUnit.SECONDS), equalTo(true))
+        assertThat(file.exists(), equalTo(false))
+
+        writeAllowed.countDown()
+        writer.awaitWriteOf(file)
+        assertThat(file.readBytes().contentEquals(content), equalTo(true))
+        assertThat(writer.awaitPendingWrites(), nullValue())
+    }
+
+    @Test
+    fun `encodes the content of a state file in order`() {
+        val file = file("state.bin")
+        val content = content(5 * 256 * 1024)
+
+        writer.outputStreamFor(file, { file.outputStream() }) { stream -> XorOutputStream(stream) }.use { stream ->
+            content.forEach { stream.write(it.toInt()) }
+        }
+
+        assertThat(writer.awaitPendingWrites(), nullValue())
+        assertThat(file.readBytes().contentEquals(content.map { (it.toInt() xor 0x5a).toByte() }.toByteArray()), equalTo(true))
+    }
+
+    @Test
+    fun `reports the failure to write a state file`() {
+        val file = file("state.bin")
+
+        writer.outputStreamFor(file, { throw IOException("broken") }) { it }.use { stream ->
+            stream.write(content(1024))
+        }
+
+        assertThat(writer.awaitPendingWrites(), instanceOf(IOException::class.java))
+    }
+
+    private
+    class XorOutputStream(stream: OutputStream) : FilterOutputStream(stream) {
+        override fun write(b: Int) {
+            out.write(b xor 0x5a)
+        }
+    }
+
+    private
+    fun content(size: Int) = ByteArray(size) { it.toByte() }
+
+    private
+    fun startParameter(pipelined: Boolean): ConfigurationCacheStartParameter {
+        val startParameter = StartParameterInternal()
+        return ConfigurationCacheStartParameter(
+            BuildLayout(
+                file("root"),
+                file("settings"),
+                null,
+                null
+            ),
+            startParameter,
+            DefaultInternalOptions(mapOf("org.gradle.configuration-cache.internal.pipelined-store" to pipelined.toString())),
+            DefaultBuildModelParameters(
+                requiresToolingModels = false,
+                parallelProjectExecution = false,
+                configureOnDemand = false,
+                configurationCache = true,
+                isolatedProjects = false,
+                intermediateModelCache = false,
+                parallelToolingApiActions = false,
+                invalidateCoupledProjects = false,
+                modelAsProjectDependency = false
+            ),
+            ConfigurationCacheLoggingParameters(LogLevel.LIFECYCLE)
+        )
+    }
+
+    private
+    fun file(path: String): File =
+        testDirectoryProvider.file(path)
+}
@@ -19,6 +19,8 @@ package org.gradle.internal.cc.impl.fingerprint
 import com.nhaarman.mockitokotlin2.any
 import com.nhaarman.mockitokotlin2.doReturn
 import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.never
+import com.nhaarman.mockitokotlin2.verify
 import org.gradle.api.Describable
 import org.gradle.api.logging.Logger
 import org.gradle.api.provider.ValueSource
@@ -52,6 +54,8 @@ import org.junit.Test
 import java.io.File
 import java.io.InputStream
 import java.io.OutputStream
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
 
 
 class ConfigurationCacheFingerprintCheckerTest {
@@ -236,6 +240,58 @@ class ConfigurationCacheFingerprintCheckerTest {
         )
     }
 
+    @Test
+    fun `first changed file is reported regardless of the order file inputs are checked in`() {
+        val inputFiles = (0 until 500).map { File("input$it.txt") }
+        val changedFiles = setOf(inputFiles[300], inputFiles[450])
+        val executor = Executors.newFixedThreadPool(4)
+        try {
+            assertThat(
+                checkFingerprintGiven(
+                    mock {
+                        on { hashCodeAndTypeOf(any()) }.then { invocation ->
+                            val hash = if (invocation.getArgument<File>(0) in changedFiles) 2 else 1
+                            TestHashCodes.hashCodeFrom(hash) to FileType.RegularFile
+                        }
+                        on { displayNameOf(any()) }.then { invocation ->
+                            invocation.getArgument<File>(0).name
+                        }
+                    },
+                    *inputFiles.map { ConfigurationCacheFingerprint.InputFile(it, TestHashCodes.hashCodeFrom(1)) }.toTypedArray(),
+                    fileSystemCheckExecutor = executor
+                ),
+                equalTo("file 'input300.txt' has changed")
+            )
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun `inputs recorded after a changed file are not read`() {
+        val inputFile = File("input.txt")
+        val obtainedValue = obtainedValueMock()
+        val host = mock<ConfigurationCacheFingerprintChecker.Host> {
+            on { hashCodeAndTypeOf(any()) } doReturn (TestHashCodes.hashCodeFrom(2) to FileType.RegularFile)
+            on { displayNameOf(any()) } doReturn "input.txt"
+        }
+        val readContext = recordWritingOf {
+            write(ConfigurationCacheFingerprint.InputFile(inputFile, TestHashCodes.hashCodeFrom(1)))
+            write(ConfigurationCacheFingerprint.ValueSource(obtainedValue))
+            write(null)
+        }
+
+        val checkedFingerprint = readContext.runReadOperation {
+            ConfigurationCacheFingerprintChecker(host).run {
+                checkBuildScopedFingerprint()
+            }
+        }
+
+        assertThat(checkedFingerprint?.toString(), equalTo("file 'input.txt' has changed"))
+        assertThat(readContext.readCount, equalTo(1))
+        verify(host, never()).instantiateValueSourceOf(any())
+    }
+
     @Test
     fun `invalidation reason includes ValueSource description`() {
 
@@ -284,16 +340,17 @@ class ConfigurationCacheFingerprintCheckerTest {
     private
     fun checkFingerprintGiven(
         host: ConfigurationCacheFingerprintChecker.Host,
-        fingerprint: ConfigurationCacheFingerprint
+        vararg fingerprints: ConfigurationCacheFingerprint,
+        fileSystemCheckExecutor: Executor = Executor(Runnable::run)
     ): String? {
 
         val readContext = recordWritingOf {
-            write(fingerprint)
+            fingerprints.forEach { write(it) }
             write(null)
         }
 
         val checkedFingerprint = readContext.runReadOperation {
-            ConfigurationCacheFingerprintChecker(host).run {
+            ConfigurationCacheFingerprintChecker(host, fileSystemCheckExecutor).run {
                 checkBuildScopedFingerprint()
             }
         }
@@ -443,9 +500,12 @@ class ConfigurationCacheFingerprintCheckerTest {
         private
         val reader = values.iterator()
 
+        var readCount = 0
+            private set
+
         override fun readSmallInt(): Int = next()
 
-        override suspend fun read(): Any? = next()
+        override suspend fun read(): Any? = next<Any?>().also { readCount++ }
 
         override suspend fun <T : Any> readSharedObject(decode: suspend ReadContext.() -> T): T = next()
 
@@ -89,6 +89,41 @@ class UserTypesCodecTest : AbstractUserTypeCodecTest() {
         }
     }
 
+    @Test
+    fun `can handle beans with primitive fields`() {
+
+        val bean = PrimitiveFields(
+            boolean = true,
+            byte = -1,
+            short = 1024,
+            char = '\u00e9',
+            int = Int.MIN_VALUE,
+            long = Long.MAX_VALUE,
+            float = 0.5f,
+            double = -1.25,
+            boxed = 42,
+            missing = null
+        )
+
+        assertThat(
+            configurationCacheRoundtripOf(bean),
+            equalTo(bean)
+        )
+    }
+
+    data class PrimitiveFields(
+        val boolean: Boolean,
+        val byte: Byte,
+        val short: Short,
+        val char: Char,
+        val int: Int,
+        val long: Long,
+        val float: Float,
+        val double: Double,
+        val boxed: Int?,
+        val missing: Long?
+    )
+
     @Test
     fun `Peano sanity check`() {
 
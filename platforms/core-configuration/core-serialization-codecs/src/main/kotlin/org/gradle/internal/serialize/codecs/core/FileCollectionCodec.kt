@@ -35,6 +35,7 @@ import org.gradle.api.internal.provider.ProviderInternal
 import org.gradle.api.specs.Spec
 import org.gradle.api.tasks.TaskProvider
 import org.gradle.api.tasks.util.PatternSet
+import org.gradle.internal.extensions.stdlib.uncheckedCast
 import org.gradle.internal.serialize.graph.Codec
 import org.gradle.internal.serialize.graph.ReadContext
 import org.gradle.internal.serialize.graph.WriteContext
@@ -74,7 +75,18 @@ class FileCollectionCodec(
     suspend fun WriteContext.encodeViaCollectingVisitor(value: FileCollectionInternal) {
         val visitor = CollectingVisitor()
         value.visitStructure(visitor)
-        writeCollection(visitor.elements)
+        val elements = visitor.elements
+        if (elements.isNotEmpty() && elements.all { it is File }) {
+            // A fixed set of files, such as a resolved classpath, is often repeated across tasks and projects,
+            // share it by content so it is written only once per build
+            writeBoolean(true)
+            writeSharedObject(FixedFilesSpec(elements.map { it as File })) { spec ->
+                writeCollection(spec.files)
+            }
+        } else {
+            writeBoolean(false)
+            writeCollection(elements)
+        }
     }
 
     override suspend fun ReadContext.decode(): FileCollectionInternal {
@@ -87,6 +99,11 @@ class FileCollectionCodec(
 
     suspend fun ReadContext.decodeContents(): FileCollectionInternal = if (readBoolean()) {
         readNonNull<FileCollectionExecutionTimeValue>().toFileCollection(fileCollectionFactory)
+    } else if (readBoolean()) {
+        val spec = readSharedObject {
+            FixedFilesSpec(readList().uncheckedCast())
+        }
+        fileCollectionFactory.resolving(spec.files)
     } else {
         fileCollectionFactory.resolving(
             readList().map { element ->
@@ -106,6 +123,13 @@ class FileCollectionCodec(
 }
 
 
+/**
+ * Compared by content, so equal sets of files can be shared.
+ */
+private
+data class FixedFilesSpec(val files: List<File>)
+
+
 private
 class SubtractingFileCollectionSpec(val left: FileCollection, val right: FileCollection)
 
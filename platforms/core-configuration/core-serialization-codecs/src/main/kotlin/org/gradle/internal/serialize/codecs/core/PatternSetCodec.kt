@@ -60,11 +60,22 @@ object IntersectionPatternSetCodec : Codec<IntersectionPatternSet> {
 }
 
 
+/**
+ * The patterns of a [PatternSet], compared by content so the same patterns can be shared
+ * by the many pattern sets configured alike across projects.
+ */
+private
+data class PatternsSpec(val isCaseSensitive: Boolean, val includes: List<String>, val excludes: List<String>)
+
+
 private
 suspend fun WriteContext.writePatternSet(value: PatternSet) {
-    writeBoolean(value.isCaseSensitive)
-    writeStrings(value.includesView)
-    writeStrings(value.excludesView)
+    writeSharedObject(PatternsSpec(value.isCaseSensitive, value.includesView.toList(), value.excludesView.toList())) { patterns ->
+        writeBoolean(patterns.isCaseSensitive)
+        writeStrings(patterns.includes)
+        writeStrings(patterns.excludes)
+    }
+    // Specs are compared by identity, they are not worth sharing
     writeCollection(value.includeSpecsView)
     writeCollection(value.excludeSpecsView)
 }
@@ -72,9 +83,12 @@ suspend fun WriteContext.writePatternSet(value: PatternSet) {
 
 private
 suspend fun ReadContext.readPatternSet(value: PatternSet) {
-    value.isCaseSensitive = readBoolean()
-    value.setIncludes(readStrings())
-    value.setExcludes(readStrings())
+    val patterns = readSharedObject {
+        PatternsSpec(readBoolean(), readStrings(), readStrings())
+    }
+    value.isCaseSensitive = patterns.isCaseSensitive
+    value.setIncludes(patterns.includes)
+    value.setExcludes(patterns.excludes)
     readCollection {
         value.include(readNonNull<Spec<FileTreeElement>>())
     }
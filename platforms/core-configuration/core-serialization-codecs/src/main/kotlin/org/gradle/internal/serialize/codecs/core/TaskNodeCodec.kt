@@ -125,18 +125,20 @@ class TaskNodeCodec(
 
         val task = createTask(project, taskName, taskType, uniqueId, incompatibleReason)
 
-        withTaskOf(taskType, task, userTypesCodec) {
-            readUpToDateSpec(task)
-            readCollectionInto { task.outputs.cacheIfSpecs.uncheckedCast() }
-            readCollectionInto { task.outputs.doNotCacheIfSpecs.uncheckedCast() }
-            readReasonNotToTrackState(task)
-            beanStateReaderFor(task.javaClass).run {
-                readStateOf(task)
+        withDebugFrame({ taskType.name }) {
+            withTaskOf(taskType, task, userTypesCodec) {
+                readUpToDateSpec(task)
+                readCollectionInto { task.outputs.cacheIfSpecs.uncheckedCast() }
+                readCollectionInto { task.outputs.doNotCacheIfSpecs.uncheckedCast() }
+                readReasonNotToTrackState(task)
+                beanStateReaderFor(task.javaClass).run {
+                    readStateOf(task)
+                }
+                readRegisteredPropertiesOf(task)
+                readDestroyablesOf(task)
+                readLocalStateOf(task)
+                readRequiredServices(task)
             }
-            readRegisteredPropertiesOf(task)
-            readDestroyablesOf(task)
-            readLocalStateOf(task)
-            readRequiredServices(task)
         }
 
         return task
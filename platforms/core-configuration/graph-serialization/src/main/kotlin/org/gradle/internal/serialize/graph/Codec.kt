@@ -92,6 +92,12 @@ interface Tracer {
 
 interface ReadContext : IsolateContext, MutableIsolateContext, Decoder {
 
+    /**
+     * Receives the debug frames opened while reading, if any.
+     */
+    val tracer: Tracer?
+        get() = null
+
     val sharedIdentities: ReadIdentities
 
     override val isolate: ReadIsolate
@@ -149,3 +149,19 @@ inline fun <T : WriteContext, R> T.withDebugFrame(name: () -> String, instance:
         }
     }
 }
+
+
+inline fun <T : ReadContext, R> T.withDebugFrame(name: () -> String, readAction: T.() -> R): R {
+    val tracer = this.tracer
+    return if (tracer == null) {
+        readAction()
+    } else {
+        val frameName = name()
+        try {
+            tracer.open(frameName, null)
+            readAction()
+        } finally {
+            tracer.close(frameName, null)
+        }
+    }
+}
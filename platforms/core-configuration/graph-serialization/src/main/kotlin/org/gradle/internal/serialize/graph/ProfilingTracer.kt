@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.serialize.graph
+
+
+/**
+ * Measures each frame with the given [measure], such as the write position or the current time,
+ * and records the amount attributed to it to the given [recorder].
+ *
+ * Events are forwarded to the given [delegate], if any, so profiling can be combined with a [LoggingTracer].
+ */
+class ProfilingTracer(
+    private val measure: () -> Long,
+    private val recorder: Recorder,
+    private val delegate: Tracer? = null
+) : Tracer {
+
+    fun interface Recorder {
+        /**
+         * @param self the amount measured for the frame, excluding its nested frames
+         * @param total the amount measured for the frame, including its nested frames,
+         * or `0` when the frame is nested in a frame of the same name, so the amount is not counted twice
+         */
+        fun record(frame: String, self: Long, total: Long)
+    }
+
+    private
+    class OpenFrame(val name: String, val start: Long) {
+        var nested = 0L
+    }
+
+    private
+    val openFrames = ArrayList<OpenFrame>()
+
+    override fun open(frame: String, instance: Any?) {
+        delegate?.open(frame, instance)
+        openFrames.add(OpenFrame(frame, measure()))
+    }
+
+    override fun close(frame: String, instance: Any?) {
+        val closed = openFrames.removeAt(openFrames.lastIndex)
+        val total = measure() - closed.start
+        openFrames.lastOrNull()?.let { parent ->
+            parent.nested += total
+        }
+        val isOutermost = openFrames.none { it.name == closed.name }
+        recorder.record(closed.name, total - closed.nested, if (isOutermost) total else 0)
+        delegate?.close(frame, instance)
+    }
+}
@@ -22,6 +22,7 @@ import org.gradle.internal.serialize.graph.WriteContext
 import org.gradle.internal.serialize.graph.decodePreservingIdentity
 import org.gradle.internal.serialize.graph.encodePreservingIdentityOf
 import org.gradle.internal.serialize.graph.withBeanTrace
+import org.gradle.internal.serialize.graph.withDebugFrame
 
 
 object BeanCodec : Codec<Any> {
@@ -40,7 +41,9 @@ object BeanCodec : Codec<Any> {
         decodePreservingIdentity { id ->
             val beanType = readClass()
             withBeanTrace(beanType) {
-                readBeanOf(beanType, id)
+                withDebugFrame({ beanType.typeName }) {
+                    readBeanOf(beanType, id)
+                }
             }
         }
 
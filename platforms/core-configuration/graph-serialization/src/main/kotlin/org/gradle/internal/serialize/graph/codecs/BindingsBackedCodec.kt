@@ -51,34 +51,66 @@ class BindingsBackedCodec(private val bindings: List<Binding>) : Codec<Any?> {
     private
     val encodings = ConcurrentHashMap<Class<*>, TaggedEncoding>()
 
+    /**
+     * The serializers of the bindings backed by a [SerializerCodec], indexed by tag.
+     */
+    private
+    val leafDecodings: Array<Serializer<Any>?> = Array(bindings.size) { tag ->
+        bindings[tag].decoding.leafSerializer()
+    }
+
+    // Values of leaf types, such as strings and boxed primitives, are written and read
+    // without going through the suspending codec protocol, which would otherwise allocate a continuation per value.
     override suspend fun WriteContext.encode(value: Any?) = when (value) {
         null -> writeSmallInt(NULL_VALUE)
-        else -> taggedEncodingFor(value.javaClass).run {
-            writeSmallInt(tag)
-            withDebugFrame({
-                // TODO:configuration-cache evaluate whether we need to unpack the type here
-                // GeneratedSubclasses.unpackType(value).typeName
-                value.javaClass.typeName
-            }, value) {
-                encoding.run { encode(value) }
+        else -> taggedEncodingFor(value.javaClass).let { taggedEncoding ->
+            when (val serializer = taggedEncoding.leafSerializer) {
+                null -> encodeTagged(taggedEncoding, value)
+                else -> encodeLeaf(taggedEncoding.tag, serializer, value)
             }
         }
     }
 
     override suspend fun ReadContext.decode() = when (val tag = readSmallInt()) {
         NULL_VALUE -> null
-        else -> {
-            val binding = try {
-                bindings[tag]
-            } catch (e: ArrayIndexOutOfBoundsException) {
-                onError(e) {
-                    text("Cannot deserialize the value because the type tag $tag is not in the valid range [-1..${bindings.size}). ")
-                    text("The value may have been written incorrectly or its data is corrupted.")
-                }
-                null
+        else -> when (val serializer = leafDecodings.getOrNull(tag)) {
+            null -> decodeTagged(tag)
+            else -> serializer.read(this)
+        }
+    }
+
+    private
+    fun WriteContext.encodeLeaf(tag: Int, serializer: Serializer<Any>, value: Any) {
+        writeSmallInt(tag)
+        withDebugFrame({ value.javaClass.typeName }, value) {
+            serializer.write(this, value)
+        }
+    }
+
+    private
+    suspend fun WriteContext.encodeTagged(taggedEncoding: TaggedEncoding, value: Any) = taggedEncoding.run {
+        writeSmallInt(tag)
+        withDebugFrame({
+            // TODO:configuration-cache evaluate whether we need to unpack the type here
+            // GeneratedSubclasses.unpackType(value).typeName
+            value.javaClass.typeName
+        }, value) {
+            encoding.run { encode(value) }
+        }
+    }
+
+    private
+    suspend fun ReadContext.decodeTagged(tag: Int): Any? {
+        val binding = try {
+            bindings[tag]
+        } catch (e: ArrayIndexOutOfBoundsException) {
+            onError(e) {
+                text("Cannot deserialize the value because the type tag $tag is not in the valid range [-1..${bindings.size}). ")
+                text("The value may have been written incorrectly or its data is corrupted.")
             }
-            binding?.let { it.decoding.run { decode() } }
+            null
         }
+        return binding?.let { it.decoding.run { decode() } }
     }
 
     private
@@ -90,7 +122,7 @@ class BindingsBackedCodec(private val bindings: List<Binding>) : Codec<Any?> {
         for (binding in bindings) {
             val encoding = binding.encodingForType(type)
             if (encoding != null) {
-                return TaggedEncoding(binding.tag, encoding)
+                return TaggedEncoding(binding.tag, encoding, encoding.leafSerializer())
             }
         }
         throw IllegalArgumentException("Don't know how to serialize an object of type ${type.name}.")
@@ -99,8 +131,13 @@ class BindingsBackedCodec(private val bindings: List<Binding>) : Codec<Any?> {
     private
     data class TaggedEncoding(
         val tag: Int,
-        val encoding: Encoding
+        val encoding: Encoding,
+        val leafSerializer: Serializer<Any>?
     )
+
+    private
+    fun Any.leafSerializer(): Serializer<Any>? =
+        (this as? SerializerCodec<*>)?.serializer?.uncheckedCast()
 }
 
 
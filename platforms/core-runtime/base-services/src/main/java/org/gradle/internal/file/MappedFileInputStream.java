@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.file;
+
+import org.gradle.internal.os.OperatingSystem;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@link InputStream} over a read-only memory mapping of a file.
+ *
+ * This is meant for files which are not modified while they are read, so they can be read straight
+ * from the page cache instead of being copied through file read buffers.
+ *
+ * The mapping is only released once it is garbage collected, so this should only be used for files that are
+ * not expected to be deleted or replaced while the process keeps running. On Windows, where a mapped file cannot
+ * be deleted until the mapping is released, and for files too large to be mapped at once, a plain file stream is used instead.
+ */
+public class MappedFileInputStream extends InputStream {
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private ByteBuffer buffer;
+
+    private MappedFileInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static InputStream open(File file) throws IOException {
+        if (!OperatingSystem.current().isWindows()) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size <= Integer.MAX_VALUE) {
+                    // The mapping stays valid after the channel has been closed
+                    return new MappedFileInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+                }
+            }
+        }
+        return new FileInputStream(file);
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        int count = (int) Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public void close() {
+        // Drop the reference, so the mapping can be released as soon as the stream is no longer reachable
+        buffer = EMPTY;
+    }
+}
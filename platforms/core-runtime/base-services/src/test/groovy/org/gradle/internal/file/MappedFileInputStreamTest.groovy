@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.file
+
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+class MappedFileInputStreamTest extends Specification {
+    @Rule TestNameTestDirectoryProvider temporaryFolder = new TestNameTestDirectoryProvider(getClass())
+
+    def "reads the content of the file"() {
+        def file = temporaryFolder.file("file.bin")
+        byte[] content = (0..<1000).collect { (byte) it } as byte[]
+        file.bytes = content
+
+        when:
+        def stream = MappedFileInputStream.open(file)
+        def result = stream.bytes
+        stream.close()
+
+        then:
+        result == content
+    }
+
+    def "supports single byte reads and skipping"() {
+        def file = temporaryFolder.file("file.bin")
+        file.bytes = [1, 2, 3, (byte) 0xFF] as byte[]
+
+        when:
+        def stream = MappedFileInputStream.open(file)
+
+        then:
+        stream.read() == 1
+        stream.skip(2) == 2
+        stream.available() == 1
+        stream.read() == 0xFF
+        stream.read() == -1
+        stream.read(new byte[4], 0, 4) == -1
+
+        cleanup:
+        stream?.close()
+    }
+
+    def "can read an empty file"() {
+        def file = temporaryFolder.createFile("file.bin")
+
+        when:
+        def stream = MappedFileInputStream.open(file)
+
+        then:
+        stream.read() == -1
+
+        cleanup:
+        stream?.close()
+    }
+}
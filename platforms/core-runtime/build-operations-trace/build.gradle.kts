@@ -37,4 +37,6 @@ dependencies {
     implementation(libs.jacksonDatabind)
     implementation(libs.jacksonDatatypeJdk8)
     implementation(libs.jacksonDatatypeJsr310)
+
+    testImplementation(testFixtures(projects.core))
 }
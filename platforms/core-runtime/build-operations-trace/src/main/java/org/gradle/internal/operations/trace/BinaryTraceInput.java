@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.gradle.internal.Cast.uncheckedCast;
+
+/**
+ * Reads values written by {@link BinaryTraceOutput}.
+ *
+ * <p>Maps are read as {@link LinkedHashMap}s, lists as {@link ArrayList}s and integers as {@link Integer}s or {@link Long}s,
+ * as when reading the JSON trace, so consumers do not depend on the format of the trace.</p>
+ */
+class BinaryTraceInput implements Closeable {
+    private final InputStream inputStream;
+    @Nullable
+    private final List<String> sharedStrings;
+
+    BinaryTraceInput(InputStream inputStream, boolean shareStrings) {
+        this.inputStream = inputStream;
+        this.sharedStrings = shareStrings ? new ArrayList<>() : null;
+    }
+
+    void readHeader() throws IOException {
+        if (readVarLong() != BinaryTraceOutput.MAGIC) {
+            throw new IOException("Not a binary build operation trace.");
+        }
+        long version = readVarLong();
+        if (version != BinaryTraceOutput.FORMAT_VERSION) {
+            throw new IOException("Unsupported binary build operation trace version " + version + ".");
+        }
+    }
+
+    /**
+     * Reads the next top-level map.
+     *
+     * @return the map, or null at the end of the input.
+     */
+    @Nullable
+    Map<String, ?> readMap() throws IOException {
+        int tag = inputStream.read();
+        if (tag < 0) {
+            return null;
+        }
+        return uncheckedCast(readValue(tag));
+    }
+
+    @Nullable
+    Object readValue() throws IOException {
+        return readValue(readByte());
+    }
+
+    @Nullable
+    private Object readValue(int tag) throws IOException {
+        switch (tag) {
+            case BinaryTraceOutput.TAG_NULL:
+                return null;
+            case BinaryTraceOutput.TAG_FALSE:
+                return Boolean.FALSE;
+            case BinaryTraceOutput.TAG_TRUE:
+                return Boolean.TRUE;
+            case BinaryTraceOutput.TAG_INTEGER:
+                long encoded = readVarLong();
+                long value = (encoded >>> 1) ^ -(encoded & 1);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+                return value;
+            case BinaryTraceOutput.TAG_DOUBLE:
+                long bits = 0;
+                for (int i = 0; i < 8; i++) {
+                    bits = (bits << 8) | readByte();
+                }
+                return Double.longBitsToDouble(bits);
+            case BinaryTraceOutput.TAG_STRING:
+                return readString();
+            case BinaryTraceOutput.TAG_LIST:
+                int size = (int) readVarLong();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                return list;
+            case BinaryTraceOutput.TAG_MAP:
+                int entries = (int) readVarLong();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    String key = readString();
+                    map.put(key, readValue());
+                }
+                return map;
+            default:
+                throw new IOException("Unexpected tag " + tag + " in binary build operation trace.");
+        }
+    }
+
+    private String readString() throws IOException {
+        int reference = (int) readVarLong();
+        if (reference > 0) {
+            if (sharedStrings == null || reference > sharedStrings.size()) {
+                throw new IOException("Unexpected string reference " + reference + " in binary build operation trace.");
+            }
+            return sharedStrings.get(reference - 1);
+        }
+        byte[] bytes = new byte[(int) readVarLong()];
+        int read = 0;
+        while (read < bytes.length) {
+            int count = inputStream.read(bytes, read, bytes.length - read);
+            if (count < 0) {
+                throw new EOFException();
+            }
+            read += count;
+        }
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        if (sharedStrings != null && BinaryTraceOutput.isShareable(value, sharedStrings.size())) {
+            sharedStrings.add(value);
+        }
+        return value;
+    }
+
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer in binary build operation trace.");
+    }
+
+    private int readByte() throws IOException {
+        int b = inputStream.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+}
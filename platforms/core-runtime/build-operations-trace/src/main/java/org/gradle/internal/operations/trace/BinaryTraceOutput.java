@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes values in the binary format of build operation traces.
+ *
+ * <p>Values have the structure of JSON values: null, booleans, numbers, strings, lists and maps with string keys.
+ * Each value starts with a tag. Integers and lengths are written as variable-length integers.
+ * When strings are shared, each distinct short string is written once and referenced by index afterwards,
+ * so the keys, class names and display names that repeat throughout a trace take a few bytes each.</p>
+ *
+ * @see BinaryTraceInput
+ */
+class BinaryTraceOutput implements Closeable {
+    static final int MAGIC = 0x474F5054;
+    static final int FORMAT_VERSION = 1;
+
+    static final int TAG_NULL = 0;
+    static final int TAG_FALSE = 1;
+    static final int TAG_TRUE = 2;
+    static final int TAG_INTEGER = 3;
+    static final int TAG_DOUBLE = 4;
+    static final int TAG_STRING = 5;
+    static final int TAG_LIST = 6;
+    static final int TAG_MAP = 7;
+
+    static final int MAX_SHARED_STRINGS = 1 << 16;
+    static final int MAX_SHARED_STRING_LENGTH = 256;
+
+    private final OutputStream outputStream;
+    @Nullable
+    private final Map<String, Integer> sharedStrings;
+    private long position;
+
+    BinaryTraceOutput(OutputStream outputStream, boolean shareStrings) {
+        this.outputStream = outputStream;
+        this.sharedStrings = shareStrings ? new HashMap<>() : null;
+    }
+
+    static boolean isShareable(String value, int sharedCount) {
+        return value.length() <= MAX_SHARED_STRING_LENGTH && sharedCount < MAX_SHARED_STRINGS;
+    }
+
+    void writeHeader() throws IOException {
+        writeVarLong(MAGIC);
+        writeVarLong(FORMAT_VERSION);
+    }
+
+    /**
+     * Writes a value, which is either a {@link JsonNode} or made of maps, collections, strings, numbers and booleans.
+     */
+    void writeValue(@Nullable Object value) throws IOException {
+        if (value instanceof JsonNode) {
+            writeNode((JsonNode) value);
+        } else if (value == null) {
+            writeByte(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeByte(TAG_INTEGER);
+            writeSignedVarLong(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            writeByte(TAG_DOUBLE);
+            writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            writeByte(TAG_MAP);
+            writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            writeByte(TAG_LIST);
+            writeVarLong(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        } else {
+            writeByte(TAG_STRING);
+            writeString(value.toString());
+        }
+    }
+
+    private void writeNode(JsonNode node) throws IOException {
+        if (node.isNull() || node.isMissingNode()) {
+            writeByte(TAG_NULL);
+        } else if (node.isBoolean()) {
+            writeByte(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+        } else if (node.isIntegralNumber() && node.canConvertToLong()) {
+            writeByte(TAG_INTEGER);
+            writeSignedVarLong(node.longValue());
+        } else if (node.isNumber()) {
+            writeByte(TAG_DOUBLE);
+            writeDouble(node.doubleValue());
+        } else if (node.isObject()) {
+            writeByte(TAG_MAP);
+            writeVarLong(node.size());
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                writeString(field.getKey());
+                writeNode(field.getValue());
+            }
+        } else if (node.isArray()) {
+            writeByte(TAG_LIST);
+            writeVarLong(node.size());
+            for (JsonNode element : node) {
+                writeNode(element);
+            }
+        } else {
+            writeByte(TAG_STRING);
+            writeString(node.asText());
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (sharedStrings != null) {
+            Integer index = sharedStrings.get(value);
+            if (index != null) {
+                writeVarLong(index + 1);
+                return;
+            }
+            if (isShareable(value, sharedStrings.size())) {
+                sharedStrings.put(value, sharedStrings.size());
+            }
+        }
+        writeVarLong(0);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        outputStream.write(bytes);
+        position += bytes.length;
+    }
+
+    void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeDouble(double value) throws IOException {
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (bits >>> shift));
+        }
+    }
+
+    private void writeByte(int value) throws IOException {
+        outputStream.write(value);
+        position++;
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     */
+    long getPosition() {
+        return position;
+    }
+
+    void flush() throws IOException {
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+}
@@ -20,6 +20,7 @@
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationConfig;
@@ -27,6 +28,7 @@
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -42,6 +44,8 @@
 import org.gradle.internal.buildoption.InternalFlag;
 import org.gradle.internal.buildoption.InternalOptions;
 import org.gradle.internal.buildoption.StringInternalOption;
+import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
 import org.gradle.internal.concurrent.Stoppable;
 import org.gradle.internal.operations.BuildOperationDescriptor;
 import org.gradle.internal.operations.BuildOperationListener;
@@ -55,29 +59,29 @@
 import org.gradle.util.internal.GFileUtils;
 
 import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.BufferedWriter;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -92,7 +96,8 @@
  * <p>
  * Three files are created:
  * <ul>
- * <li>«path-base»-log.txt: a chronological log of events, each line is a JSON object</li>
+ * <li>«path-base»-log.txt: a chronological log of events, each line is a JSON object,
+ * or «path-base»-log.bin when the binary format is selected with {@code -Dorg.gradle.internal.operations.trace.format=binary}</li>
  * <li>«path-base»-tree.json: a JSON tree of the event structure</li>
  * <li>«path-base»-tree.txt: A simplified tree representation showing basic information</li>
  * </ul>
@@ -103,8 +108,10 @@
  * The «path-base» param is optional.
  * If invoked as {@code -Dorg.gradle.internal.operations.trace}, a base value of "operations" will be used.
  * <p>
- * The generation of trees can be very memory hungry and thus can be disabled with
- * {@code -Dorg.gradle.internal.operations.trace.tree=false}.
+ * Events are written to the log by a background thread.
+ * The trees are written from the log when the build completes, keeping only the running operations in memory.
+ * The generation of trees can be disabled with {@code -Dorg.gradle.internal.operations.trace.tree=false}
+ * and done later with {@link #writeTrees(String)}.
  * </p>
  * The "trace" produced here is different to the trace produced by Gradle Profiler.
  * There, the focus is analyzing the performance profile.
@@ -140,6 +147,15 @@ public class BuildOperationTrace implements Stoppable {
 
     private static final InternalFlag TRACE_TREE_OPTION = new InternalFlag(TREE_SYSPROP, true);
 
+    /**
+     * The format of the log, either {@code json} (the default) or {@code binary}.
+     * The binary log is more compact and cheaper to write than the JSON log, which matters when tracing large builds.
+     * The trees are the same for both formats.
+     */
+    public static final String FORMAT_SYSPROP = SYSPROP + ".format";
+
+    private static final StringInternalOption FORMAT_OPTION = new StringInternalOption(FORMAT_SYSPROP, "json");
+
     /**
      * Delimiter for entries in {@link #FILTER_SYSPROP}.
      */
@@ -147,24 +163,43 @@ public class BuildOperationTrace implements Stoppable {
 
     private static final byte[] NEWLINE = {(byte) '\n'};
 
+    /**
+     * The number of operations that can wait to be written before the build waits for the log writer.
+     */
+    private static final int MAX_QUEUED_OPERATIONS = 10000;
+
+    private static final JsonNode END_OF_LOG = MissingNode.getInstance();
+
     private final boolean outputTree;
     private final BuildOperationListener listener;
     private final String basePath;
 
-    private final OutputStream logOutputStream;
     private final ObjectMapper objectMapper;
     private final BuildOperationListenerManager buildOperationListenerManager;
 
-    public BuildOperationTrace(StartParameter startParameter, BuildOperationListenerManager buildOperationListenerManager) {
+    private final BlockingQueue<JsonNode> queue;
+    /**
+     * Operations are queued under the read lock, and the end of the log under the write lock,
+     * so no operation is queued after the end of the log.
+     */
+    private final ReadWriteLock queueLock = new ReentrantReadWriteLock();
+    private final LogWriter logWriter;
+    private final ManagedExecutor logWriterExecutor;
+    private boolean stopped;
+    private volatile Throwable writeFailure;
+
+    public BuildOperationTrace(StartParameter startParameter, BuildOperationListenerManager buildOperationListenerManager, ExecutorFactory executorFactory) {
         this.buildOperationListenerManager = buildOperationListenerManager;
 
         InternalOptions internalOptions = new DefaultInternalOptions(startParameter.getSystemPropertiesArgs());
         this.basePath = internalOptions.getOption(TRACE_OPTION).get();
         if (this.basePath == null || basePath.equals(Boolean.FALSE.toString())) {
-            this.logOutputStream = null;
             this.outputTree = false;
             this.listener = null;
             this.objectMapper = null;
+            this.queue = null;
+            this.logWriter = null;
+            this.logWriterExecutor = null;
             return;
         }
 
@@ -179,20 +214,29 @@ public BuildOperationTrace(StartParameter startParameter, BuildOperationListener
             this.listener = new SerializingBuildOperationListener(this::write);
         }
 
+        boolean binary = internalOptions.getOption(FORMAT_OPTION).get().equals("binary");
         try {
-            File logFile = logFile(basePath);
+            File logFile = binary ? binaryLogFile(basePath) : logFile(basePath);
             GFileUtils.mkdirs(logFile.getParentFile());
-            if (logFile.isFile()) {
-                GFileUtils.forceDelete(logFile);
+            // Delete the logs of both formats, so a log from a previous build is not read instead of this one
+            for (File previousLogFile : Arrays.asList(logFile(basePath), binaryLogFile(basePath))) {
+                if (previousLogFile.isFile()) {
+                    GFileUtils.forceDelete(previousLogFile);
+                }
             }
             //noinspection ResultOfMethodCallIgnored
             logFile.createNewFile();
 
-            this.logOutputStream = new BufferedOutputStream(new FileOutputStream(logFile));
+            OutputStream logOutputStream = new BufferedOutputStream(new FileOutputStream(logFile));
+            this.logWriter = binary ? new BinaryLogWriter(logOutputStream) : new JsonLogWriter(logOutputStream, objectMapper);
         } catch (IOException e) {
             throw UncheckedException.throwAsUncheckedException(e);
         }
 
+        this.queue = new ArrayBlockingQueue<>(MAX_QUEUED_OPERATIONS);
+        this.logWriterExecutor = executorFactory.create("Build operation trace writer");
+        logWriterExecutor.execute(this::writeQueuedOperations);
+
         buildOperationListenerManager.addListener(listener);
     }
 
@@ -209,118 +253,109 @@ private static Set<String> getFilter(InternalOptions internalOptions) {
     @Override
     public void stop() {
         buildOperationListenerManager.removeListener(listener);
-        if (logOutputStream != null) {
+        if (logWriter != null) {
             try {
-                synchronized (logOutputStream) {
-                    logOutputStream.close();
+                queueLock.writeLock().lock();
+                try {
+                    stopped = true;
+                    queue.put(END_OF_LOG);
+                } finally {
+                    queueLock.writeLock().unlock();
+                }
+                logWriterExecutor.stop();
+                logWriter.close();
+                if (writeFailure != null) {
+                    throw UncheckedException.throwAsUncheckedException(writeFailure);
                 }
 
                 if (outputTree) {
-                    List<BuildOperationRecord> roots = readLogToTreeRoots(logFile(basePath), false);
-                    writeDetailTree(roots);
-                    writeSummaryTree(roots);
+                    writeTrees(basePath, objectMapper);
                 }
-            } catch (IOException e) {
+            } catch (IOException | InterruptedException e) {
                 throw UncheckedException.throwAsUncheckedException(e);
             }
         }
     }
 
     private void write(SerializedOperation operation) {
+        // Convert the operation on the calling thread, as details and results may change once the listener returns
+        JsonNode node = objectMapper.valueToTree(operation.toMap());
+        queueLock.readLock().lock();
         try {
-            String json = objectMapper.writeValueAsString(operation.toMap());
-            synchronized (logOutputStream) {
-                logOutputStream.write(json.getBytes(StandardCharsets.UTF_8));
-                logOutputStream.write(NEWLINE);
-                logOutputStream.flush();
+            if (!stopped) {
+                queue.put(node);
             }
-        } catch (IOException e) {
+        } catch (InterruptedException e) {
             throw UncheckedException.throwAsUncheckedException(e);
+        } finally {
+            queueLock.readLock().unlock();
         }
     }
 
-    private void writeDetailTree(List<BuildOperationRecord> roots) throws IOException {
-        File outputFile = file(basePath, "-tree.json");
-        objectMapper.writerWithDefaultPrettyPrinter()
-            .writeValue(outputFile, BuildOperationTree.serialize(roots));
-    }
-
-    private void writeSummaryTree(final List<BuildOperationRecord> roots) throws IOException {
-        Path outputPath = Paths.get(basePath + "-tree.txt");
-        try (BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
-            Deque<Queue<BuildOperationRecord>> stack = new ArrayDeque<>(Collections.singleton(new ArrayDeque<>(roots)));
-            StringBuilder stringBuilder = new StringBuilder();
-
-            while (!stack.isEmpty()) {
-                if (stack.peek().isEmpty()) {
-                    stack.pop();
-                    continue;
-                }
-
-                Queue<BuildOperationRecord> children = stack.element();
-                BuildOperationRecord record = children.remove();
-
-                stringBuilder.setLength(0);
-
-                int indents = stack.size() - 1;
-                for (int i = 0; i < indents; ++i) {
-                    stringBuilder.append("  ");
-                }
-
-                if (!record.children.isEmpty()) {
-                    stack.addFirst(new ArrayDeque<>(record.children));
-                }
-
-                stringBuilder.append(record.displayName);
-
-                if (record.details != null) {
-                    stringBuilder.append(" ");
+    private void writeQueuedOperations() {
+        try {
+            JsonNode operation;
+            while ((operation = takeQueuedOperation()) != END_OF_LOG) {
+                // Keep taking operations after a failure, so the build does not wait for the writer
+                if (writeFailure == null) {
                     try {
-                        stringBuilder.append(objectMapper.writeValueAsString(record.details));
-                    } catch (JsonProcessingException e) {
-                        throw UncheckedException.throwAsUncheckedException(e);
+                        logWriter.write(operation);
+                    } catch (Throwable t) {
+                        writeFailure = t;
                     }
                 }
+            }
+        } catch (InterruptedException e) {
+            writeFailure = e;
+        }
+    }
 
-                if (record.result != null) {
-                    stringBuilder.append(" ");
-                    try {
-                        stringBuilder.append(objectMapper.writeValueAsString(record.result));
-                    } catch (JsonProcessingException e) {
-                        throw UncheckedException.throwAsUncheckedException(e);
-                    }
+    private JsonNode takeQueuedOperation() throws InterruptedException {
+        JsonNode operation = queue.poll();
+        if (operation == null) {
+            // Flush when there is nothing left to write, so the log is up-to-date should the build crash
+            if (writeFailure == null) {
+                try {
+                    logWriter.flush();
+                } catch (IOException e) {
+                    writeFailure = e;
                 }
+            }
+            operation = queue.take();
+        }
+        return operation;
+    }
 
-                stringBuilder.append(" [");
-                stringBuilder.append(record.endTime - record.startTime);
-                stringBuilder.append("ms]");
-
-                stringBuilder.append(" (");
-                stringBuilder.append(record.id);
-                stringBuilder.append(")");
+    /**
+     * Writes the detail and summary trees of a trace, for example one recorded with {@link #TREE_SYSPROP} set to {@code false}.
+     *
+     * @param basePath The same path used for {@link #SYSPROP} when the trace was recorded.
+     */
+    public static void writeTrees(String basePath) {
+        writeTrees(basePath, createObjectMapper());
+    }
 
-                if (!record.progress.isEmpty()) {
-                    for (BuildOperationRecord.Progress progress : record.progress) {
-                        stringBuilder.append(System.lineSeparator());
-                        for (int i = 0; i < indents; ++i) {
-                            stringBuilder.append("  ");
-                        }
-                        stringBuilder.append("- ")
-                            .append(progress.details).append(" [")
-                            .append(progress.time - record.startTime)
-                            .append("]");
-                    }
-                }
+    private static void writeTrees(String basePath, ObjectMapper objectMapper) {
+        try {
+            new StreamingBuildOperationTreeWriter(objectMapper).write(basePath, file(basePath, "-tree.json"), file(basePath, "-tree.txt"));
+        } catch (IOException e) {
+            throw UncheckedException.throwAsUncheckedException(e);
+        }
+    }
 
-                writer.write(stringBuilder.toString());
-                writer.newLine();
-            }
+    /**
+     * Writes the trees of a trace outside of the build, with the path base of the trace as the only argument.
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: BuildOperationTrace <path-base>");
+            System.exit(1);
         }
+        writeTrees(args[0]);
     }
 
     public static BuildOperationTree read(String basePath) {
-        File logFile = logFile(basePath);
-        List<BuildOperationRecord> roots = readLogToTreeRoots(logFile, true);
+        List<BuildOperationRecord> roots = readLogToTreeRoots(basePath, true);
         return new BuildOperationTree(roots);
     }
 
@@ -333,96 +368,92 @@ public static BuildOperationTree read(String basePath) {
      * @param basePath The same path used for {@link #SYSPROP} when the trace was recorded.
      */
     public static BuildOperationTree readPartialTree(String basePath) {
-        File logFile = logFile(basePath);
-        List<BuildOperationRecord> partialTree = readLogToTreeRoots(logFile, false);
+        List<BuildOperationRecord> partialTree = readLogToTreeRoots(basePath, false);
         return new BuildOperationTree(partialTree);
     }
 
-    private static List<BuildOperationRecord> readLogToTreeRoots(final File logFile, boolean completeTree) {
+    private static List<BuildOperationRecord> readLogToTreeRoots(String basePath, boolean completeTree) {
         try {
-            final ObjectMapper objectMapper = new ObjectMapper();
-
             final List<BuildOperationRecord> roots = new ArrayList<>();
             final Map<Object, PendingOperation> pendings = new HashMap<>();
             final Map<Object, List<BuildOperationRecord>> childrens = new HashMap<>();
 
             final List<SerializedOperationProgress> danglingProgress = new ArrayList<>();
 
-            try (Stream<String> lines = Files.lines(logFile.toPath())) {
-                lines.forEach(line -> {
-                    Map<String, ?> map;
-                    try {
-                        map = objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {});
-                    } catch (JsonProcessingException e) {
-                        throw UncheckedException.throwAsUncheckedException(e);
-                    }
+            readLog(basePath, map -> {
+                if (map.containsKey("startTime")) {
+                    SerializedOperationStart serialized = new SerializedOperationStart(map);
+                    pendings.put(serialized.id, new PendingOperation(serialized));
+                    childrens.put(serialized.id, new LinkedList<>());
+                } else if (map.containsKey("time")) {
+                    SerializedOperationProgress serialized = new SerializedOperationProgress(map);
+                    PendingOperation pending = pendings.get(serialized.id);
+                    if (pending != null) {
+                        pending.progress.add(serialized);
+                    } else {
+                        if (completeTree) {
+                            throw new IllegalStateException("did not find owner of progress event with ID " + serialized.id);
+                        }
 
-                    if (map.containsKey("startTime")) {
-                        SerializedOperationStart serialized = new SerializedOperationStart(map);
-                        pendings.put(serialized.id, new PendingOperation(serialized));
-                        childrens.put(serialized.id, new LinkedList<>());
-                    } else if (map.containsKey("time")) {
-                        SerializedOperationProgress serialized = new SerializedOperationProgress(map);
-                        PendingOperation pending = pendings.get(serialized.id);
-                        if (pending != null) {
-                            pending.progress.add(serialized);
+                        danglingProgress.add(serialized);
+                    }
+                } else {
+                    SerializedOperationFinish finish = new SerializedOperationFinish(map);
+
+                    PendingOperation pending = pendings.remove(finish.id);
+                    assert pending != null;
+
+                    List<BuildOperationRecord> children = childrens.remove(finish.id);
+                    assert children != null;
+
+                    SerializedOperationStart start = pending.start;
+
+                    Map<String, ?> detailsMap = uncheckedCast(start.details);
+                    Map<String, ?> resultMap = uncheckedCast(finish.result);
+
+                    BuildOperationRecord record = new BuildOperationRecord(
+                        start.id,
+                        start.parentId,
+                        start.displayName,
+                        start.startTime,
+                        finish.endTime,
+                        detailsMap == null ? null : Collections.unmodifiableMap(detailsMap),
+                        start.detailsClassName,
+                        resultMap == null ? null : Collections.unmodifiableMap(resultMap),
+                        finish.resultClassName,
+                        finish.failureMsg,
+                        pending.progress,
+                        BuildOperationRecord.ORDERING.immutableSortedCopy(children)
+                    );
+
+                    if (start.parentId == null) {
+                        roots.add(record);
+                    } else {
+                        List<BuildOperationRecord> parentChildren = childrens.get(start.parentId);
+                        if (parentChildren != null) {
+                            parentChildren.add(record);
                         } else {
                             if (completeTree) {
-                                throw new IllegalStateException("did not find owner of progress event with ID " + serialized.id);
+                                throw new IllegalStateException("parentChildren != null '" + map + "' from trace " + basePath);
                             }
 
-                            danglingProgress.add(serialized);
-                        }
-                    } else {
-                        SerializedOperationFinish finish = new SerializedOperationFinish(map);
-
-                        PendingOperation pending = pendings.remove(finish.id);
-                        assert pending != null;
-
-                        List<BuildOperationRecord> children = childrens.remove(finish.id);
-                        assert children != null;
-
-                        SerializedOperationStart start = pending.start;
-
-                        Map<String, ?> detailsMap = uncheckedCast(start.details);
-                        Map<String, ?> resultMap = uncheckedCast(finish.result);
-
-                        BuildOperationRecord record = new BuildOperationRecord(
-                            start.id,
-                            start.parentId,
-                            start.displayName,
-                            start.startTime,
-                            finish.endTime,
-                            detailsMap == null ? null : Collections.unmodifiableMap(detailsMap),
-                            start.detailsClassName,
-                            resultMap == null ? null : Collections.unmodifiableMap(resultMap),
-                            finish.resultClassName,
-                            finish.failureMsg,
-                            pending.progress,
-                            BuildOperationRecord.ORDERING.immutableSortedCopy(children)
-                        );
-
-                        if (start.parentId == null) {
+                            // We are not expecting a complete tree, so it is possible that the parent
+                            // was never serialized. In that case, just treat this record as a root.
                             roots.add(record);
-                        } else {
-                            List<BuildOperationRecord> parentChildren = childrens.get(start.parentId);
-                            if (parentChildren != null) {
-                                parentChildren.add(record);
-                            } else {
-                                if (completeTree) {
-                                    throw new IllegalStateException("parentChildren != null '" + line + "' from " + logFile);
-                                }
-
-                                // We are not expecting a complete tree, so it is possible that the parent
-                                // was never serialized. In that case, just treat this record as a root.
-                                roots.add(record);
-                            }
                         }
                     }
-                });
-            }
+                }
+            });
 
-            assert pendings.isEmpty();
+            if (completeTree) {
+                assert pendings.isEmpty();
+            } else {
+                // Operations that did not finish, for example when the log was truncated, are not part of the tree,
+                // so keep their finished children as roots
+                for (Object id : pendings.keySet()) {
+                    roots.addAll(childrens.get(id));
+                }
+            }
 
             if (!completeTree && !danglingProgress.isEmpty()) {
                 // There were dangling progress events that have parent operations which were not serialized.
@@ -443,10 +474,54 @@ private static List<BuildOperationRecord> readLogToTreeRoots(final File logFile,
 
     }
 
+    /**
+     * Reads the events of the log of a trace in either format, in the order they were written.
+     */
+    static void readLog(String basePath, Consumer<Map<String, ?>> consumer) {
+        File binaryLogFile = binaryLogFile(basePath);
+        try {
+            if (binaryLogFile.isFile()) {
+                try (BinaryTraceInput input = new BinaryTraceInput(new BufferedInputStream(new FileInputStream(binaryLogFile)), true)) {
+                    input.readHeader();
+                    while (true) {
+                        Map<String, ?> map;
+                        try {
+                            map = input.readMap();
+                        } catch (EOFException e) {
+                            // The last event was not completely written, for example when the build crashed
+                            break;
+                        }
+                        if (map == null) {
+                            break;
+                        }
+                        consumer.accept(map);
+                    }
+                }
+            } else {
+                ObjectMapper objectMapper = new ObjectMapper();
+                try (Stream<String> lines = Files.lines(logFile(basePath).toPath())) {
+                    lines.forEach(line -> {
+                        try {
+                            consumer.accept(objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {}));
+                        } catch (JsonProcessingException e) {
+                            throw UncheckedException.throwAsUncheckedException(e);
+                        }
+                    });
+                }
+            }
+        } catch (IOException e) {
+            throw UncheckedException.throwAsUncheckedException(e);
+        }
+    }
+
     private static File logFile(String basePath) {
         return file(basePath, "-log.txt");
     }
 
+    private static File binaryLogFile(String basePath) {
+        return file(basePath, "-log.bin");
+    }
+
     private static File file(@Nullable String base, String suffix) {
         return new File((base == null || base.trim().isEmpty() ? "operations" : base) + suffix).getAbsoluteFile();
     }
@@ -548,6 +623,64 @@ public List<BeanPropertyWriter> changeProperties(
         }
     }
 
+    private interface LogWriter {
+        void write(JsonNode operation) throws IOException;
+
+        void flush() throws IOException;
+
+        void close() throws IOException;
+    }
+
+    private static class JsonLogWriter implements LogWriter {
+        private final OutputStream outputStream;
+        private final ObjectMapper objectMapper;
+
+        JsonLogWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+            this.outputStream = outputStream;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void write(JsonNode operation) throws IOException {
+            outputStream.write(objectMapper.writeValueAsBytes(operation));
+            outputStream.write(NEWLINE);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+        }
+    }
+
+    private static class BinaryLogWriter implements LogWriter {
+        private final BinaryTraceOutput output;
+
+        BinaryLogWriter(OutputStream outputStream) throws IOException {
+            this.output = new BinaryTraceOutput(outputStream, true);
+            output.writeHeader();
+        }
+
+        @Override
+        public void write(JsonNode operation) throws IOException {
+            output.writeValue(operation);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+
     private static class SerializingBuildOperationListener implements BuildOperationListener {
 
         private final Consumer<SerializedOperation> consumer;
@@ -16,9 +16,7 @@
 
 package org.gradle.internal.operations.trace;
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 
 import java.util.List;
 import java.util.Map;
@@ -44,13 +42,4 @@ private void visit(ImmutableMap.Builder<Long, BuildOperationRecord> records, Bui
         }
     }
 
-    static List<Map<String, ?>> serialize(List<BuildOperationRecord> roots) {
-        return Lists.transform(roots, new Function<BuildOperationRecord, Map<String, ?>>() {
-            @Override
-            public Map<String, ?> apply(BuildOperationRecord input) {
-                return input.toSerializable();
-            }
-        });
-    }
-
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gradle.internal.UncheckedException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.gradle.internal.Cast.uncheckedCast;
+
+/**
+ * Writes the detail and summary trees of a build operation trace without holding the tree in memory.
+ *
+ * <p>The log is read once, and each operation is written to a temporary file when it finishes, together with the positions of its children.
+ * Only the operations that are still running and the positions of finished operations are kept in memory.
+ * The trees are then written by walking the operations from the temporary file, depth first.</p>
+ */
+class StreamingBuildOperationTreeWriter {
+    private static final Comparator<Child> CHILD_ORDER = Comparator.<Child>comparingLong(child -> child.startTime).thenComparingLong(child -> child.id);
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, PendingNode> pendings = new HashMap<>();
+    private final List<Child> roots = new ArrayList<>();
+    private final List<SerializedOperationProgress> danglingProgress = new ArrayList<>();
+    private long[] offsets = new long[1024];
+    private int recordCount;
+
+    StreamingBuildOperationTreeWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void write(String basePath, File detailTreeFile, File summaryTreeFile) throws IOException {
+        File recordsFile = new File(detailTreeFile.getPath() + ".tmp");
+        try {
+            try (BinaryTraceOutput records = new BinaryTraceOutput(new BufferedOutputStream(new FileOutputStream(recordsFile)), false)) {
+                BuildOperationTrace.readLog(basePath, map -> {
+                    try {
+                        add(map, records);
+                    } catch (IOException e) {
+                        throw UncheckedException.throwAsUncheckedException(e);
+                    }
+                });
+                for (PendingNode pending : pendings.values()) {
+                    // Operations that did not finish are not part of the tree, so keep their finished children as roots
+                    roots.addAll(pending.children);
+                }
+                if (!danglingProgress.isEmpty()) {
+                    // There were dangling progress events that have parent operations which were not recorded.
+                    // Add a dummy root operation to hold these events.
+                    BuildOperationRecord record = new BuildOperationRecord(
+                        -1L, null,
+                        "Dangling pending operations",
+                        0L, 0L, null, null, null, null, null,
+                        danglingProgress,
+                        Collections.emptyList()
+                    );
+                    roots.add(writeRecord(record, Collections.emptyList(), records));
+                }
+            }
+            try (RandomAccessFile records = new RandomAccessFile(recordsFile, "r");
+                 JsonGenerator detailTree = objectMapper.getFactory().createGenerator(detailTreeFile, JsonEncoding.UTF8);
+                 BufferedWriter summaryTree = Files.newBufferedWriter(summaryTreeFile.toPath(), StandardCharsets.UTF_8)) {
+                detailTree.useDefaultPrettyPrinter();
+                detailTree.writeStartArray();
+                for (Child root : roots) {
+                    writeTrees(root.index, 0, records.getChannel(), detailTree, summaryTree);
+                }
+                detailTree.writeEndArray();
+            }
+        } finally {
+            Files.deleteIfExists(recordsFile.toPath());
+        }
+    }
+
+    private void add(Map<String, ?> map, BinaryTraceOutput records) throws IOException {
+        if (map.containsKey("startTime")) {
+            SerializedOperationStart start = new SerializedOperationStart(map);
+            pendings.put(start.id, new PendingNode(new BuildOperationTrace.PendingOperation(start)));
+        } else if (map.containsKey("time")) {
+            SerializedOperationProgress progress = new SerializedOperationProgress(map);
+            PendingNode pending = pendings.get(progress.id);
+            if (pending != null) {
+                pending.operation.progress.add(progress);
+            } else {
+                danglingProgress.add(progress);
+            }
+        } else {
+            SerializedOperationFinish finish = new SerializedOperationFinish(map);
+            PendingNode pending = pendings.remove(finish.id);
+            if (pending == null) {
+                // The start of the operation was not recorded
+                return;
+            }
+            SerializedOperationStart start = pending.operation.start;
+            Map<String, ?> detailsMap = uncheckedCast(start.details);
+            Map<String, ?> resultMap = uncheckedCast(finish.result);
+            BuildOperationRecord record = new BuildOperationRecord(
+                start.id,
+                start.parentId,
+                start.displayName,
+                start.startTime,
+                finish.endTime,
+                detailsMap,
+                start.detailsClassName,
+                resultMap,
+                finish.resultClassName,
+                finish.failureMsg,
+                pending.operation.progress,
+                Collections.emptyList()
+            );
+            pending.children.sort(CHILD_ORDER);
+            Child child = writeRecord(record, pending.children, records);
+
+            PendingNode parent = start.parentId == null ? null : pendings.get(start.parentId);
+            if (parent != null) {
+                parent.children.add(child);
+            } else {
+                // The parent may not have been recorded, in which case treat this operation as a root
+                roots.add(child);
+            }
+        }
+    }
+
+    private Child writeRecord(BuildOperationRecord record, List<Child> children, BinaryTraceOutput records) throws IOException {
+        if (recordCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, recordCount * 2);
+        }
+        int index = recordCount++;
+        offsets[index] = records.getPosition();
+        records.writeValue(record.toSerializable());
+        records.writeVarLong(children.size());
+        for (Child child : children) {
+            records.writeVarLong(child.index);
+        }
+        return new Child(record.startTime, record.id, index);
+    }
+
+    private void writeTrees(int index, int depth, FileChannel records, JsonGenerator detailTree, Writer summaryTree) throws IOException {
+        records.position(offsets[index]);
+        BinaryTraceInput input = new BinaryTraceInput(new BufferedInputStream(Channels.newInputStream(records), 1024), false);
+        Map<String, ?> record = uncheckedCast(input.readValue());
+        int[] children = new int[(int) input.readVarLong()];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = (int) input.readVarLong();
+        }
+
+        writeSummary(record, depth, summaryTree);
+
+        detailTree.writeStartObject();
+        for (Map.Entry<String, ?> entry : record.entrySet()) {
+            detailTree.writeFieldName(entry.getKey());
+            detailTree.writeObject(entry.getValue());
+        }
+        if (children.length > 0) {
+            detailTree.writeArrayFieldStart("children");
+            for (int child : children) {
+                writeTrees(child, depth + 1, records, detailTree, summaryTree);
+            }
+            detailTree.writeEndArray();
+        }
+        detailTree.writeEndObject();
+    }
+
+    private void writeSummary(Map<String, ?> record, int depth, Writer summaryTree) throws IOException {
+        StringBuilder stringBuilder = new StringBuilder();
+        indent(stringBuilder, depth);
+        stringBuilder.append(record.get("displayName"));
+
+        Object details = record.get("details");
+        if (details != null) {
+            stringBuilder.append(" ");
+            stringBuilder.append(objectMapper.writeValueAsString(details));
+        }
+
+        Object result = record.get("result");
+        if (result != null) {
+            stringBuilder.append(" ");
+            stringBuilder.append(objectMapper.writeValueAsString(result));
+        }
+
+        long startTime = ((Number) record.get("startTime")).longValue();
+        stringBuilder.append(" [");
+        stringBuilder.append(((Number) record.get("duration")).longValue());
+        stringBuilder.append("ms]");
+
+        stringBuilder.append(" (");
+        stringBuilder.append(record.get("id"));
+        stringBuilder.append(")");
+
+        List<Map<String, ?>> progress = uncheckedCast(record.get("progress"));
+        if (progress != null) {
+            for (Map<String, ?> event : progress) {
+                Map<String, ?> eventDetails = uncheckedCast(event.get("details"));
+                stringBuilder.append(System.lineSeparator());
+                indent(stringBuilder, depth);
+                stringBuilder.append("- ")
+                    .append(eventDetails == null ? null : new StrictMap<String, Object>(eventDetails)).append(" [")
+                    .append(((Number) event.get("time")).longValue() - startTime)
+                    .append("]");
+            }
+        }
+
+        summaryTree.write(stringBuilder.toString());
+        summaryTree.write(System.lineSeparator());
+    }
+
+    private static void indent(StringBuilder stringBuilder, int depth) {
+        for (int i = 0; i < depth; ++i) {
+            stringBuilder.append("  ");
+        }
+    }
+
+    private static class PendingNode {
+        final BuildOperationTrace.PendingOperation operation;
+        final List<Child> children = new ArrayList<>();
+
+        PendingNode(BuildOperationTrace.PendingOperation operation) {
+            this.operation = operation;
+        }
+    }
+
+    private static class Child {
+        final long startTime;
+        final long id;
+        final int index;
+
+        Child(long startTime, long id, int index) {
+            this.startTime = startTime;
+            this.id = id;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import spock.lang.Specification
+
+class BinaryTraceOutputTest extends Specification {
+
+    def "reads the values that were written when strings are #description"() {
+        def longString = "x" * (BinaryTraceOutput.MAX_SHARED_STRING_LENGTH + 1)
+        def values = [
+            [
+                displayName: "Configure project :",
+                id: 1L,
+                parentId: null,
+                failed: false,
+                cached: true,
+                count: -42,
+                bytes: 3_000_000_000L,
+                min: Long.MIN_VALUE,
+                max: Long.MAX_VALUE,
+                ratio: 0.25d,
+                tiny: -1.5e-300d,
+                text: "unicode \u00e9\u4e2d",
+                longText: longString,
+                empty: "",
+                list: [1, "Configure project :", [nested: [true, null]]],
+            ],
+            [
+                displayName: "Configure project :",
+                longText: longString,
+                emptyList: [],
+                emptyMap: [:],
+            ],
+        ]
+
+        when:
+        def input = read(write(values, shareStrings), shareStrings)
+
+        then:
+        input.readMap() == values[0]
+        input.readMap() == values[1]
+        input.readMap() == null
+
+        where:
+        description  | shareStrings
+        "shared"     | true
+        "not shared" | false
+    }
+
+    def "reads integers as integers or longs depending on their size"() {
+        when:
+        def map = read(write([[small: 1L, large: 1L << 40]], true), true).readMap()
+
+        then:
+        map.small instanceof Integer
+        map.large instanceof Long
+    }
+
+    def "reads JSON nodes like the values they were converted from"() {
+        def value = [name: "task", count: 3_000_000_000L, ratio: 0.5d, flags: [true, false], nothing: null]
+        def node = new ObjectMapper().valueToTree(value)
+
+        when:
+        def map = read(write([node], true), true).readMap()
+
+        then:
+        map == value
+    }
+
+    def "writes repeated strings once when they are shared"() {
+        def values = (1..100).collect { [displayName: "Execute task :compileJava", className: "org.gradle.api.tasks.compile.JavaCompile"] }
+
+        expect:
+        write(values, true).length < write(values, false).length / 5
+    }
+
+    def "fails on a stream which is not a binary trace"() {
+        when:
+        new BinaryTraceInput(new ByteArrayInputStream("{}".bytes), true).readHeader()
+
+        then:
+        def e = thrown(IOException)
+        e.message == "Not a binary build operation trace."
+    }
+
+    def "fails on a value truncated in the middle"() {
+        def bytes = write([[displayName: "Configure project :"]], true)
+
+        when:
+        read(Arrays.copyOf(bytes, bytes.length - 3), true).readMap()
+
+        then:
+        thrown(EOFException)
+    }
+
+    private static byte[] write(List<?> values, boolean shareStrings) {
+        def bytes = new ByteArrayOutputStream()
+        def output = new BinaryTraceOutput(bytes, shareStrings)
+        output.writeHeader()
+        values.each { output.writeValue(it) }
+        output.close()
+        return bytes.toByteArray()
+    }
+
+    private static BinaryTraceInput read(byte[] bytes, boolean shareStrings) {
+        def input = new BinaryTraceInput(new ByteArrayInputStream(bytes), shareStrings)
+        input.readHeader()
+        return input
+    }
+}
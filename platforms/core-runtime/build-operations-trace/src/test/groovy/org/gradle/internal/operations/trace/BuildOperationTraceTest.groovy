@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace
+
+import org.gradle.StartParameter
+import org.gradle.internal.concurrent.DefaultExecutorFactory
+import org.gradle.internal.operations.BuildOperationDescriptor
+import org.gradle.internal.operations.DefaultBuildOperationListenerManager
+import org.gradle.internal.operations.OperationFinishEvent
+import org.gradle.internal.operations.OperationIdentifier
+import org.gradle.internal.operations.OperationStartEvent
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicBoolean
+
+class BuildOperationTraceTest extends Specification {
+    @Rule
+    TestNameTestDirectoryProvider temporaryFolder = new TestNameTestDirectoryProvider(getClass())
+
+    def listenerManager = new DefaultBuildOperationListenerManager()
+    def executorFactory = new DefaultExecutorFactory()
+
+    def cleanup() {
+        executorFactory.stop()
+    }
+
+    def "reads the finished operations of a truncated binary log"() {
+        def log = new TraceLogFixture(temporaryFolder.testDirectory)
+            .start(1, null, "Run build", 100)
+            .start(2, 1, "Configure build", 105)
+            .finish(2, 110)
+            .finish(1, 200)
+        def offsets = log.write("binary")
+        // Cut the log in the middle of the finish event of the root operation
+        def bytes = log.binaryLogFile.bytes
+        log.binaryLogFile.bytes = Arrays.copyOf(bytes, (int) offsets[3] + 2)
+
+        when:
+        def tree = BuildOperationTrace.readPartialTree(log.basePath)
+
+        then:
+        tree.roots*.id == [2L]
+        tree.roots[0].displayName == "Configure build"
+        tree.roots[0].endTime == 110
+    }
+
+    def "records the operations that finish before the trace stops in #format format"() {
+        def trace = trace(format)
+
+        when:
+        def operation = operation(1)
+        listenerManager.broadcaster.started(operation, new OperationStartEvent(100))
+        listenerManager.broadcaster.finished(operation, new OperationFinishEvent(100, 200, null, null))
+        trace.stop()
+
+        then:
+        def roots = BuildOperationTrace.read(basePath).roots
+        roots*.id == [1L]
+        roots[0].endTime == 200
+
+        where:
+        format << ["json", "binary"]
+    }
+
+    def "drops operations reported after the trace stops"() {
+        def trace = trace("binary")
+        def listener = trace.listener
+        listenerManager.broadcaster.started(operation(1), new OperationStartEvent(100))
+        listenerManager.broadcaster.finished(operation(1), new OperationFinishEvent(100, 200, null, null))
+        trace.stop()
+
+        when:
+        listener.started(operation(2), new OperationStartEvent(300))
+        listener.finished(operation(2), new OperationFinishEvent(300, 400, null, null))
+
+        then:
+        BuildOperationTrace.read(basePath).roots*.id == [1L]
+    }
+
+    @Timeout(60)
+    def "stops while operations are reported concurrently"() {
+        def trace = trace("binary")
+        def listener = trace.listener
+        def running = new AtomicBoolean(true)
+        def reported = new CountDownLatch(4)
+        def threads = (0..<4).collect { thread ->
+            Thread.start {
+                long id = thread * 1_000_000L
+                while (running.get()) {
+                    def operation = operation(++id)
+                    listener.started(operation, new OperationStartEvent(id))
+                    listener.finished(operation, new OperationFinishEvent(id, id + 1, null, null))
+                    reported.countDown()
+                }
+            }
+        }
+        reported.await()
+
+        when:
+        trace.stop()
+        running.set(false)
+        threads*.join()
+
+        then:
+        def roots = BuildOperationTrace.readPartialTree(basePath).roots
+        !roots.empty
+        roots.every { it.endTime == it.startTime + 1 }
+    }
+
+    private String getBasePath() {
+        return new File(temporaryFolder.testDirectory, "trace").path
+    }
+
+    private BuildOperationTrace trace(String format) {
+        def startParameter = new StartParameter()
+        startParameter.systemPropertiesArgs = [
+            (BuildOperationTrace.SYSPROP): basePath,
+            (BuildOperationTrace.FORMAT_SYSPROP): format,
+            (BuildOperationTrace.TREE_SYSPROP): "false"
+        ]
+        return new BuildOperationTrace(startParameter, listenerManager, executorFactory)
+    }
+
+    private static BuildOperationDescriptor operation(long id) {
+        return BuildOperationDescriptor.displayName("Operation " + id).build(new OperationIdentifier(id), null)
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+class StreamingBuildOperationTreeWriterTest extends Specification {
+    @Rule
+    TestNameTestDirectoryProvider temporaryFolder = new TestNameTestDirectoryProvider(getClass())
+
+    def objectMapper = new ObjectMapper()
+
+    def "writes the same trees as the in-memory tree for a #format log"() {
+        def log = new TraceLogFixture(temporaryFolder.testDirectory)
+            .start(1, null, "Run build", 100, [buildPath: ":"])
+            .start(3, 1, "Configure build", 105, [path: ":", ratio: 0.5d])
+            .start(4, 3, "Apply plugin", 106)
+            .finish(4, 107)
+            .start(2, 1, "Run tasks", 110)
+            .progress(2, 115, [message: "hello"])
+            .finish(2, 150, [count: 3_000_000_000L])
+            .finish(3, 160, null, new RuntimeException("broken"))
+            .finish(1, 200)
+            .start(5, null, "Finish build", 210)
+            .finish(5, 220)
+        log.write(format)
+
+        when:
+        BuildOperationTrace.writeTrees(log.basePath)
+
+        then:
+        def roots = BuildOperationTrace.read(log.basePath).roots
+        roots*.id == [1L, 5L]
+        objectMapper.readValue(log.detailTreeFile, List) == objectMapper.readValue(objectMapper.writeValueAsString(roots*.toSerializable()), List)
+        log.summaryTreeFile.getText("UTF-8") == summaryTree(roots)
+
+        where:
+        format << ["json", "binary"]
+    }
+
+    def "writes finished operations of an incomplete #format log as roots"() {
+        def log = new TraceLogFixture(temporaryFolder.testDirectory)
+            .start(1, null, "Run build", 100)
+            .start(2, 1, "Configure build", 105)
+            .start(3, 2, "Apply plugin", 106)
+            .finish(3, 107)
+            .start(4, 1, "Run tasks", 110)
+            .finish(4, 150)
+            .progress(7, 160, [message: "orphan"])
+        log.write(format)
+
+        when:
+        BuildOperationTrace.writeTrees(log.basePath)
+
+        then:
+        def roots = BuildOperationTrace.readPartialTree(log.basePath).roots
+        roots*.id.toSet() == [3L, 4L, -1L].toSet()
+        def detailTree = objectMapper.readValue(log.detailTreeFile, List)
+        detailTree*.id.toSet() == [3, 4, -1].toSet()
+        detailTree.find { it.id == -1 }.progress*.details == [[message: "orphan"]]
+
+        where:
+        format << ["json", "binary"]
+    }
+
+    /**
+     * The summary tree as it was written from the in-memory tree of records.
+     */
+    private String summaryTree(List<BuildOperationRecord> roots) {
+        def builder = new StringBuilder()
+        roots.each { summary(it, 0, builder) }
+        return builder.toString()
+    }
+
+    private void summary(BuildOperationRecord record, int depth, StringBuilder builder) {
+        def indent = "  " * depth
+        builder.append(indent).append(record.displayName)
+        if (record.details != null) {
+            builder.append(" ").append(objectMapper.writeValueAsString(record.details))
+        }
+        if (record.result != null) {
+            builder.append(" ").append(objectMapper.writeValueAsString(record.result))
+        }
+        builder.append(" [").append(record.endTime - record.startTime).append("ms] (").append(record.id).append(")")
+        record.progress.each {
+            builder.append(System.lineSeparator()).append(indent)
+            builder.append("- ").append(it.details).append(" [").append(it.time - record.startTime).append("]")
+        }
+        builder.append(System.lineSeparator())
+        record.children.each { summary(it, depth + 1, builder) }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.operations.trace
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.gradle.internal.operations.BuildOperationDescriptor
+import org.gradle.internal.operations.OperationFinishEvent
+import org.gradle.internal.operations.OperationIdentifier
+import org.gradle.internal.operations.OperationProgressEvent
+import org.gradle.internal.operations.OperationStartEvent
+
+/**
+ * Writes the log of a build operation trace in either format, as {@link BuildOperationTrace} does during a build.
+ */
+class TraceLogFixture {
+    final String basePath
+    private final List<SerializedOperation> events = []
+    private final Map<Long, BuildOperationDescriptor> descriptors = [:]
+    private final Map<Long, Long> startTimes = [:]
+
+    TraceLogFixture(File directory) {
+        this.basePath = new File(directory, "trace").path
+    }
+
+    TraceLogFixture start(long id, Long parentId, String displayName, long time, Object details = null) {
+        def builder = BuildOperationDescriptor.displayName(displayName)
+        if (details != null) {
+            builder.details(details)
+        }
+        def descriptor = builder.build(new OperationIdentifier(id), parentId == null ? null : new OperationIdentifier(parentId))
+        descriptors[id] = descriptor
+        startTimes[id] = time
+        events << new SerializedOperationStart(descriptor, new OperationStartEvent(time))
+        return this
+    }
+
+    TraceLogFixture progress(long id, long time, Object details) {
+        events << new SerializedOperationProgress(new OperationIdentifier(id), new OperationProgressEvent(time, details))
+        return this
+    }
+
+    TraceLogFixture finish(long id, long time, Object result = null, Throwable failure = null) {
+        events << new SerializedOperationFinish(descriptors[id], new OperationFinishEvent(startTimes[id], time, failure, result))
+        return this
+    }
+
+    File getLogFile() {
+        return new File(basePath + "-log.txt")
+    }
+
+    File getBinaryLogFile() {
+        return new File(basePath + "-log.bin")
+    }
+
+    File getDetailTreeFile() {
+        return new File(basePath + "-tree.json")
+    }
+
+    File getSummaryTreeFile() {
+        return new File(basePath + "-tree.txt")
+    }
+
+    /**
+     * Writes the log, and returns the offset of the start of each event in the log.
+     */
+    List<Long> write(String format) {
+        def objectMapper = new ObjectMapper()
+        def offsets = []
+        if (format == "binary") {
+            def output = new BinaryTraceOutput(new FileOutputStream(binaryLogFile), true)
+            output.writeHeader()
+            events.each {
+                offsets << output.position
+                output.writeValue(objectMapper.valueToTree(it.toMap()))
+            }
+            output.close()
+        } else {
+            logFile.withOutputStream { outputStream ->
+                long position = 0
+                events.each {
+                    offsets << position
+                    def line = objectMapper.writeValueAsBytes(objectMapper.valueToTree(it.toMap()))
+                    outputStream.write(line)
+                    outputStream.write((int) '\n')
+                    position += line.length + 1
+                }
+            }
+        }
+        return offsets
+    }
+}
@@ -24,6 +24,7 @@
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
 import org.gradle.internal.classpath.ClassPath;
+import org.gradle.internal.hash.Hashing;
 import org.gradle.internal.concurrent.CompositeStoppable;
 import org.gradle.internal.installation.CurrentGradleInstallation;
 import org.gradle.internal.installation.GradleInstallation;
@@ -155,6 +156,9 @@ public DaemonStartupInfo startDaemon(boolean singleUse) {
             daemonArgs.addAll(JpmsConfiguration.GRADLE_DAEMON_JPMS_ARGS);
         }
         daemonArgs.addAll(daemonOpts);
+        if (daemonParameters.shouldUseClassDataSharing()) {
+            daemonArgs.addAll(getClassDataSharingArgs(majorJavaVersion, resolvedJava, daemonOpts));
+        }
         daemonArgs.add("-cp");
         daemonArgs.add(CollectionUtils.join(File.pathSeparator, classpath.getAsFiles()));
 
@@ -221,6 +225,29 @@ private DefaultToolchainSpec getDaemonJvmToolchainSpec(DaemonJvmCriteria.Spec da
         return toolchainSpec;
     }
 
+    /**
+     * Uses an archive of the classes loaded by previous daemons for the same Gradle version and JVM, which the JVM creates or updates when the daemon exits.
+     * This saves loading and verifying these classes again when a new daemon starts.
+     */
+    private List<String> getClassDataSharingArgs(int majorJavaVersion, File javaExecutable, Collection<String> daemonOpts) {
+        if (majorJavaVersion < 19) {
+            // Archives can only be created automatically from Java 19
+            LOGGER.info("Not using class data sharing for the daemon as it requires Java 19 or later.");
+            return Collections.emptyList();
+        }
+        for (String daemonOpt : daemonOpts) {
+            if (daemonOpt.startsWith("-Xshare") || daemonOpt.startsWith("-XX:SharedArchiveFile") || daemonOpt.startsWith("-XX:ArchiveClassesAtExit")) {
+                LOGGER.info("Not using class data sharing for the daemon as it is configured by the daemon JVM arguments.");
+                return Collections.emptyList();
+            }
+        }
+        // An archive is only usable by the JVM that created it
+        String jvmKey = Hashing.hashString(javaExecutable.getAbsolutePath()).toCompactString();
+        File archive = new File(daemonDir.getVersionedDir(), "cds/daemon-" + majorJavaVersion + "-" + jvmKey + ".jsa");
+        GFileUtils.mkdirs(archive.getParentFile());
+        return Arrays.asList("-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+    }
+
     private List<String> getPriorityArgs(DaemonPriority priority) {
         if (priority == DaemonPriority.NORMAL) {
             return Collections.emptyList();
@@ -53,6 +53,7 @@ public class DaemonParameters {
     private int periodicCheckInterval = DEFAULT_PERIODIC_CHECK_INTERVAL_MILLIS;
     private final JvmOptions jvmOptions;
     private boolean applyInstrumentationAgent = true;
+    private boolean classDataSharing;
     private NativeServicesMode nativeServicesMode = NativeServicesMode.ENABLED;
     private Map<String, String> envVariables;
     private boolean enabled = true;
@@ -207,6 +208,15 @@ public DaemonParameters setApplyInstrumentationAgent(boolean applyInstrumentatio
         return this;
     }
 
+    public boolean shouldUseClassDataSharing() {
+        return classDataSharing;
+    }
+
+    public DaemonParameters setClassDataSharing(boolean classDataSharing) {
+        this.classDataSharing = classDataSharing;
+        return this;
+    }
+
     public NativeServicesMode getNativeServicesMode() {
         return nativeServicesMode;
     }
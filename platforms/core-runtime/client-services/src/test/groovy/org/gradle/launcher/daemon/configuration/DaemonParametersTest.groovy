@@ -34,6 +34,7 @@ class DaemonParametersTest extends Specification {
         parameters.baseDir == new File(userHomeDir, "daemon")
         parameters.systemProperties.isEmpty()
         parameters.effectiveJvmArgs.size() == 4 + 4 // 4 immutable system properties and 4 memory related properties
+        !parameters.shouldUseClassDataSharing()
     }
 
     def "configuring jvmargs replaces the defaults"() {
@@ -23,35 +23,22 @@
 import org.gradle.internal.invocation.BuildAction;
 import org.gradle.internal.logging.events.BooleanQuestionPromptEvent;
 import org.gradle.internal.logging.events.IntQuestionPromptEvent;
-import org.gradle.internal.logging.events.LogEvent;
-import org.gradle.internal.logging.events.LogLevelChangeEvent;
 import org.gradle.internal.logging.events.OutputEvent;
-import org.gradle.internal.logging.events.ProgressCompleteEvent;
-import org.gradle.internal.logging.events.ProgressEvent;
-import org.gradle.internal.logging.events.ProgressStartEvent;
 import org.gradle.internal.logging.events.ReadStdInEvent;
 import org.gradle.internal.logging.events.SelectOptionPromptEvent;
-import org.gradle.internal.logging.events.StyledTextOutputEvent;
 import org.gradle.internal.logging.events.TextQuestionPromptEvent;
 import org.gradle.internal.logging.events.UserInputRequestEvent;
 import org.gradle.internal.logging.events.UserInputResumeEvent;
 import org.gradle.internal.logging.events.YesNoQuestionPromptEvent;
 import org.gradle.internal.logging.serializer.BooleanQuestionPromptEventSerializer;
 import org.gradle.internal.logging.serializer.IntQuestionPromptEventSerializer;
-import org.gradle.internal.logging.serializer.LogEventSerializer;
-import org.gradle.internal.logging.serializer.LogLevelChangeEventSerializer;
-import org.gradle.internal.logging.serializer.ProgressCompleteEventSerializer;
-import org.gradle.internal.logging.serializer.ProgressEventSerializer;
-import org.gradle.internal.logging.serializer.ProgressStartEventSerializer;
+import org.gradle.internal.logging.serializer.OutputEventSerializers;
 import org.gradle.internal.logging.serializer.ReadStdInEventSerializer;
 import org.gradle.internal.logging.serializer.SelectOptionPromptEventSerializer;
-import org.gradle.internal.logging.serializer.SpanSerializer;
-import org.gradle.internal.logging.serializer.StyledTextOutputEventSerializer;
 import org.gradle.internal.logging.serializer.TextQuestionPromptEventSerializer;
 import org.gradle.internal.logging.serializer.UserInputRequestEventSerializer;
 import org.gradle.internal.logging.serializer.UserInputResumeEventSerializer;
 import org.gradle.internal.logging.serializer.YesNoQuestionPromptEventSerializer;
-import org.gradle.internal.logging.text.StyledTextOutput;
 import org.gradle.internal.serialize.BaseSerializerFactory;
 import org.gradle.internal.serialize.Decoder;
 import org.gradle.internal.serialize.DefaultSerializer;
@@ -78,7 +65,6 @@
 public class DaemonMessageSerializer {
     public static Serializer<Message> create(Serializer<BuildAction> buildActionSerializer) {
         BaseSerializerFactory factory = new BaseSerializerFactory();
-        Serializer<LogLevel> logLevelSerializer = factory.getSerializerFor(LogLevel.class);
         Serializer<Throwable> throwableSerializer = factory.getSerializerFor(Throwable.class);
         DefaultSerializerRegistry registry = new DefaultSerializerRegistry();
 
@@ -100,7 +86,8 @@ public static Serializer<Message> create(Serializer<BuildAction> buildActionSeri
         registry.register(CloseInput.class, new CloseInputSerializer());
 
         // Output events
-        registry.register(LogEvent.class, new LogEventSerializer(logLevelSerializer, throwableSerializer));
+        OutputEventSerializers.registerLogEvents(registry);
+        OutputEventSerializers.registerProgressEvents(registry);
         registry.register(UserInputRequestEvent.class, new UserInputRequestEventSerializer());
         registry.register(YesNoQuestionPromptEvent.class, new YesNoQuestionPromptEventSerializer());
         registry.register(BooleanQuestionPromptEvent.class, new BooleanQuestionPromptEventSerializer());
@@ -109,11 +96,6 @@ public static Serializer<Message> create(Serializer<BuildAction> buildActionSeri
         registry.register(SelectOptionPromptEvent.class, new SelectOptionPromptEventSerializer());
         registry.register(UserInputResumeEvent.class, new UserInputResumeEventSerializer());
         registry.register(ReadStdInEvent.class, new ReadStdInEventSerializer());
-        registry.register(StyledTextOutputEvent.class, new StyledTextOutputEventSerializer(logLevelSerializer, new ListSerializer<>(new SpanSerializer(factory.getSerializerFor(StyledTextOutput.Style.class)))));
-        registry.register(ProgressStartEvent.class, new ProgressStartEventSerializer());
-        registry.register(ProgressCompleteEvent.class, new ProgressCompleteEventSerializer());
-        registry.register(ProgressEvent.class, new ProgressEventSerializer());
-        registry.register(LogLevelChangeEvent.class, new LogLevelChangeEventSerializer(logLevelSerializer));
         registry.register(OutputMessage.class, new OutputMessageSerializer(registry.build(OutputEvent.class)));
 
         // Default for everything else
@@ -22,6 +22,8 @@
 import org.gradle.api.logging.Logging;
 import org.gradle.internal.classpath.DefaultClassPath;
 import org.gradle.internal.concurrent.CompositeStoppable;
+import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
 import org.gradle.internal.instrumentation.agent.AgentInitializer;
 import org.gradle.internal.logging.LoggingManagerInternal;
 import org.gradle.internal.logging.services.LoggingServiceRegistry;
@@ -43,6 +45,7 @@
 import org.gradle.launcher.daemon.server.DaemonLogFile;
 import org.gradle.launcher.daemon.server.DaemonProcessState;
 import org.gradle.launcher.daemon.server.DaemonStopState;
+import org.gradle.launcher.daemon.server.DaemonWarmUp;
 import org.gradle.launcher.daemon.server.MasterExpirationStrategy;
 import org.gradle.launcher.daemon.server.expiry.DaemonExpirationStrategy;
 import org.gradle.process.internal.shutdown.ShutdownHooks;
@@ -133,15 +136,21 @@ protected void doAction(String[] args, ExecutionListener listener) {
         Daemon daemon = daemonServices.get(Daemon.class);
         daemon.start();
 
+        ManagedExecutor warmUpExecutor = null;
         try {
             DaemonContext daemonContext = daemonServices.get(DaemonContext.class);
             Long pid = daemonContext.getPid();
             daemonStarted(pid, daemon.getUid(), daemon.getAddress(), daemonLog);
+            if (!singleUse && DaemonWarmUp.isEnabled()) {
+                // A single use daemon runs its build straight away, so there is nothing to gain
+                warmUpExecutor = daemonServices.get(ExecutorFactory.class).create("Daemon warm-up");
+                warmUpExecutor.execute(new DaemonWarmUp(daemonServices));
+            }
             DaemonExpirationStrategy expirationStrategy = daemonServices.get(MasterExpirationStrategy.class);
             DaemonStopState stopState = daemon.stopOnExpiration(expirationStrategy, parameters.getPeriodicCheckIntervalMs());
             daemonProcessState.stopped(stopState);
         } finally {
-            CompositeStoppable.stoppable(daemon, daemonProcessState).stop();
+            CompositeStoppable.stoppable(warmUpExecutor, daemon, daemonProcessState).stop();
         }
     }
 
@@ -19,6 +19,8 @@
 import org.gradle.api.internal.tasks.userinput.UserInputReader;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
+import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory;
+import org.gradle.cache.internal.InMemoryCacheDecoratorFactory;
 import org.gradle.cache.internal.locklistener.FileLockContentionHandler;
 import org.gradle.internal.concurrent.ExecutorFactory;
 import org.gradle.internal.event.ListenerManager;
@@ -52,14 +54,18 @@
 import org.gradle.launcher.daemon.server.exec.ForwardClientInput;
 import org.gradle.launcher.daemon.server.exec.HandleCancel;
 import org.gradle.launcher.daemon.server.exec.LogAndCheckHealth;
+import org.gradle.launcher.daemon.server.exec.LogToBinaryFile;
 import org.gradle.launcher.daemon.server.exec.LogToClient;
+import org.gradle.launcher.daemon.server.exec.ReleaseDaemonCachesBetweenBuilds;
 import org.gradle.launcher.daemon.server.exec.RequestStopIfSingleUsedDaemon;
 import org.gradle.launcher.daemon.server.exec.ResetDeprecationLogger;
 import org.gradle.launcher.daemon.server.exec.ReturnResult;
 import org.gradle.launcher.daemon.server.exec.StartBuildOrRespondWithBusy;
 import org.gradle.launcher.daemon.server.exec.WatchForDisconnection;
+import org.gradle.launcher.daemon.server.health.DaemonCacheEviction;
 import org.gradle.launcher.daemon.server.health.DaemonHealthCheck;
 import org.gradle.launcher.daemon.server.health.DaemonHealthStats;
+import org.gradle.launcher.daemon.server.health.DefaultDaemonCacheEviction;
 import org.gradle.launcher.daemon.server.health.HealthExpirationStrategy;
 import org.gradle.launcher.daemon.server.health.gc.GarbageCollectorMonitoringStrategy;
 import org.gradle.launcher.daemon.server.scaninfo.DaemonScanInfo;
@@ -131,8 +137,13 @@ protected MasterExpirationStrategy createMasterExpirationStrategy(Daemon daemon,
     }
 
     @Provides
-    protected HealthExpirationStrategy createHealthExpirationStrategy(DaemonHealthStats stats, GarbageCollectorMonitoringStrategy strategy) {
-        return new HealthExpirationStrategy(stats, strategy);
+    protected DefaultDaemonCacheEviction createDaemonCacheEviction(InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory, CrossBuildInMemoryCacheFactory crossBuildInMemoryCacheFactory, GradleUserHomeScopeServiceRegistry userHomeServiceRegistry) {
+        return new DefaultDaemonCacheEviction(inMemoryCacheDecoratorFactory, crossBuildInMemoryCacheFactory, userHomeServiceRegistry);
+    }
+
+    @Provides
+    protected HealthExpirationStrategy createHealthExpirationStrategy(DaemonHealthStats stats, GarbageCollectorMonitoringStrategy strategy, DaemonCacheEviction cacheEviction) {
+        return new HealthExpirationStrategy(stats, strategy, cacheEviction);
     }
 
     @Provides
@@ -158,7 +169,8 @@ protected ImmutableList<DaemonCommandAction> createDaemonCommandActions(
         OutputEventListener eventDispatch,
         DaemonLogFile daemonLogFile,
         GradleUserHomeScopeServiceRegistry userHomeServiceRegistry,
-        ListenerManager listenerManager
+        ListenerManager listenerManager,
+        DefaultDaemonCacheEviction cacheEviction
     ) {
         DaemonDiagnostics daemonDiagnostics = new DaemonDiagnostics(daemonLogFile.getFile(), daemonContext.getPid());
         return ImmutableList.of(
@@ -171,6 +183,8 @@ protected ImmutableList<DaemonCommandAction> createDaemonCommandActions(
             new StartBuildOrRespondWithBusy(daemonDiagnostics), // from this point down, the daemon is 'busy'
             new EstablishBuildEnvironment(processEnvironment),
             new LogToClient(loggingManager, daemonDiagnostics), // from this point down, logging is sent back to the client
+            new LogToBinaryFile(loggingManager),
+            new ReleaseDaemonCachesBetweenBuilds(cacheEviction),
             new LogAndCheckHealth(healthStats, healthCheck, runningStats),
             new ForwardClientInput(inputReader, eventDispatch),
             new RequestStopIfSingleUsedDaemon(),
@@ -27,6 +27,7 @@
 import org.gradle.internal.remote.internal.RemoteConnection;
 import org.gradle.internal.remote.internal.inet.InetAddressFactory;
 import org.gradle.internal.remote.internal.inet.TcpIncomingConnector;
+import org.gradle.internal.remote.internal.inet.UnixDomainSocketIncomingConnector;
 import org.gradle.internal.serialize.Serializer;
 import org.gradle.internal.serialize.Serializers;
 import org.gradle.launcher.daemon.protocol.Message;
@@ -35,7 +36,7 @@
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Opens a TCP connection for clients to connect to communicate with a daemon.
+ * Opens a TCP connection, and a Unix domain socket when available, for clients to connect to communicate with a daemon.
  */
 public class DaemonTcpServerConnector implements DaemonServerConnector {
     final private IncomingConnector incomingConnector;
@@ -48,10 +49,13 @@ public class DaemonTcpServerConnector implements DaemonServerConnector {
 
     public DaemonTcpServerConnector(ExecutorFactory executorFactory, InetAddressFactory inetAddressFactory, Serializer<Message> serializer) {
         this.serializer = serializer;
-        this.incomingConnector = new TcpIncomingConnector(
-                executorFactory,
-                inetAddressFactory,
-                new UUIDGenerator()
+        this.incomingConnector = new UnixDomainSocketIncomingConnector(
+                new TcpIncomingConnector(
+                        executorFactory,
+                        inetAddressFactory,
+                        new UUIDGenerator()
+                ),
+                executorFactory
         );
     }
 
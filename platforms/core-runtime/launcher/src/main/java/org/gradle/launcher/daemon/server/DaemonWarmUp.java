@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server;
+
+import com.google.common.collect.ImmutableList;
+import org.gradle.api.internal.ClassPathRegistry;
+import org.gradle.api.internal.classpath.PluginModuleRegistry;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.configuration.ImportsReader;
+import org.gradle.groovy.scripts.internal.ScriptSourceHasher;
+import org.gradle.initialization.ClassLoaderRegistry;
+import org.gradle.internal.instantiation.InstantiatorFactory;
+import org.gradle.internal.service.ServiceRegistry;
+import org.gradle.internal.time.Time;
+import org.gradle.internal.time.Timer;
+
+import java.util.List;
+
+/**
+ * Creates the process services that every build uses while the daemon waits for its first build, so that the first build
+ * spends less time loading classes and initializing these services.
+ *
+ * <p>Can be disabled by setting the {@value #ENABLED_PROPERTY} system property of the daemon to {@code false}.</p>
+ */
+public class DaemonWarmUp implements Runnable {
+    public static final String ENABLED_PROPERTY = "org.gradle.daemon.warmup";
+
+    private static final Logger LOGGER = Logging.getLogger(DaemonWarmUp.class);
+    private static final List<Class<?>> SERVICE_TYPES = ImmutableList.of(
+        ClassPathRegistry.class,
+        PluginModuleRegistry.class,
+        ClassLoaderRegistry.class,
+        InstantiatorFactory.class,
+        ObjectFactory.class,
+        ImportsReader.class,
+        ScriptSourceHasher.class
+    );
+
+    private final ServiceRegistry services;
+
+    public DaemonWarmUp(ServiceRegistry services) {
+        this.services = services;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    @Override
+    public void run() {
+        Timer timer = Time.startTimer();
+        for (Class<?> serviceType : SERVICE_TYPES) {
+            try {
+                services.get(serviceType);
+            } catch (RuntimeException e) {
+                // The build will fail with a better context when it uses the service
+                LOGGER.debug("Could not create {} while warming up the daemon.", serviceType.getName(), e);
+            }
+        }
+        LOGGER.debug("Daemon warm-up took {}.", timer.getElapsed());
+    }
+}
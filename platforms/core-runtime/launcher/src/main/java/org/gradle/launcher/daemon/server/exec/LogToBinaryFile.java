@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server.exec;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.internal.logging.LoggingOutputInternal;
+import org.gradle.internal.logging.sink.BinaryLogWriter;
+import org.gradle.launcher.daemon.protocol.Build;
+import org.gradle.launcher.daemon.server.api.DaemonCommandExecution;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Writes the log output and progress events of the build to a binary log file, when the {@value #BINARY_LOG_PROPERTY} system property is set to the path of the file.
+ *
+ * <p>The events are written without being rendered, and can be rendered later using {@link org.gradle.internal.logging.sink.BinaryLogRenderer}.
+ * They are captured before the log level of the build is applied, down to the level given by the {@value #BINARY_LOG_LEVEL_PROPERTY} system property, {@code DEBUG} by default.
+ * This way the log can be rendered at a finer level than the console without running the whole build at that level, while the console only renders the events at the level of the build.</p>
+ */
+public class LogToBinaryFile extends BuildCommandOnly {
+
+    public static final String BINARY_LOG_PROPERTY = "org.gradle.daemon.binary-log";
+    public static final String BINARY_LOG_LEVEL_PROPERTY = "org.gradle.daemon.binary-log.level";
+    private static final LogLevel DEFAULT_BINARY_LOG_LEVEL = LogLevel.DEBUG;
+    private static final Logger LOGGER = Logging.getLogger(LogToBinaryFile.class);
+
+    private final LoggingOutputInternal loggingOutput;
+
+    public LogToBinaryFile(LoggingOutputInternal loggingOutput) {
+        this.loggingOutput = loggingOutput;
+    }
+
+    @Override
+    protected void doBuild(DaemonCommandExecution execution, Build build) {
+        String path = System.getProperty(BINARY_LOG_PROPERTY);
+        if (path == null || path.isEmpty()) {
+            execution.proceed();
+            return;
+        }
+
+        File file = new File(path);
+        if (!file.isAbsolute()) {
+            file = new File(build.getParameters().getCurrentDir(), path);
+        }
+        BinaryLogWriter writer;
+        try {
+            writer = new BinaryLogWriter(new FileOutputStream(file));
+        } catch (IOException e) {
+            LOGGER.warn("Could not write the binary log to {}.", file, e);
+            execution.proceed();
+            return;
+        }
+
+        LogLevel captureLevel = captureLevel();
+        LOGGER.info("Writing binary log at level {} to {}.", captureLevel, file);
+        loggingOutput.addCapturingOutputEventListener(writer, captureLevel);
+        try {
+            execution.proceed();
+        } finally {
+            loggingOutput.removeCapturingOutputEventListener(writer);
+            writer.close();
+        }
+    }
+
+    private static LogLevel captureLevel() {
+        String level = System.getProperty(BINARY_LOG_LEVEL_PROPERTY);
+        if (level == null || level.isEmpty()) {
+            return DEFAULT_BINARY_LOG_LEVEL;
+        }
+        try {
+            return LogLevel.valueOf(level.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Ignoring unknown binary log level '{}', using {} instead.", level, DEFAULT_BINARY_LOG_LEVEL);
+            return DEFAULT_BINARY_LOG_LEVEL;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server.exec;
+
+import org.gradle.launcher.daemon.server.api.DaemonCommandAction;
+import org.gradle.launcher.daemon.server.api.DaemonCommandExecution;
+import org.gradle.launcher.daemon.server.health.DefaultDaemonCacheEviction;
+
+/**
+ * Defers the release of the state retained by the daemon until the build finishes, since the build still uses it.
+ */
+public class ReleaseDaemonCachesBetweenBuilds implements DaemonCommandAction {
+    private final DefaultDaemonCacheEviction cacheEviction;
+
+    public ReleaseDaemonCachesBetweenBuilds(DefaultDaemonCacheEviction cacheEviction) {
+        this.cacheEviction = cacheEviction;
+    }
+
+    @Override
+    public void execute(DaemonCommandExecution execution) {
+        cacheEviction.buildStarted();
+        try {
+            execution.proceed();
+        } finally {
+            cacheEviction.buildFinished();
+        }
+    }
+}
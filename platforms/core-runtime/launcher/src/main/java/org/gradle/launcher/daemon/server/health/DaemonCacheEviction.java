@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server.health;
+
+/**
+ * Releases state retained by the daemon between builds, to relieve heap pressure without expiring the daemon.
+ */
+public interface DaemonCacheEviction {
+
+    /**
+     * The kinds of state to release, from the cheapest to the most expensive to rebuild.
+     * Each tier also releases the state of the tiers before it.
+     */
+    enum Tier {
+        /**
+         * In-memory caches whose content is also persisted or which only hold values not used by the current build.
+         */
+        RECREATABLE,
+        /**
+         * State retained to speed up the next build, such as unused class loaders and the virtual file system.
+         * A running build still uses this state, so it is only released between builds.
+         */
+        RETAINED_STATE;
+
+        public boolean includes(Tier other) {
+            return compareTo(other) >= 0;
+        }
+    }
+
+    void evict(Tier tier);
+}
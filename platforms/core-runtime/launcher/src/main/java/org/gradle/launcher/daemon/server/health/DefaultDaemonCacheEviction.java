@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server.health;
+
+import org.gradle.api.internal.initialization.loadercache.ClassLoaderCache;
+import org.gradle.api.internal.initialization.loadercache.DefaultClassLoaderCache;
+import org.gradle.cache.internal.CleaningInMemoryCacheDecoratorFactory;
+import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory;
+import org.gradle.cache.internal.DefaultCrossBuildInMemoryCacheFactory;
+import org.gradle.cache.internal.InMemoryCacheDecoratorFactory;
+import org.gradle.internal.service.ServiceRegistry;
+import org.gradle.internal.service.scopes.GradleUserHomeScopeServiceRegistry;
+import org.gradle.internal.vfs.VirtualFileSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Releases the caches of the daemon.
+ *
+ * <p>Recreatable caches are released right away. The retained state is still used by a running build,
+ * so it is only released between builds: when evicted while a build runs, it is released once the build finishes.
+ * The daemon notifies this class about builds with {@link #buildStarted()} and {@link #buildFinished()}.</p>
+ */
+public class DefaultDaemonCacheEviction implements DaemonCacheEviction {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDaemonCacheEviction.class);
+
+    private final InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory;
+    private final CrossBuildInMemoryCacheFactory crossBuildInMemoryCacheFactory;
+    private final GradleUserHomeScopeServiceRegistry userHomeServiceRegistry;
+
+    private final Lock buildLock = new ReentrantLock();
+    private boolean buildRunning;
+    @Nullable
+    private Tier deferredTier;
+
+    public DefaultDaemonCacheEviction(
+        InMemoryCacheDecoratorFactory inMemoryCacheDecoratorFactory,
+        CrossBuildInMemoryCacheFactory crossBuildInMemoryCacheFactory,
+        GradleUserHomeScopeServiceRegistry userHomeServiceRegistry
+    ) {
+        this.inMemoryCacheDecoratorFactory = inMemoryCacheDecoratorFactory;
+        this.crossBuildInMemoryCacheFactory = crossBuildInMemoryCacheFactory;
+        this.userHomeServiceRegistry = userHomeServiceRegistry;
+    }
+
+    @Override
+    public void evict(Tier tier) {
+        LOGGER.debug("Releasing daemon caches ({}).", tier);
+
+        // The in-memory entries of persistent caches can be loaded again from disk
+        if (inMemoryCacheDecoratorFactory instanceof CleaningInMemoryCacheDecoratorFactory) {
+            ((CleaningInMemoryCacheDecoratorFactory) inMemoryCacheDecoratorFactory).clearCaches(cache -> true);
+        }
+        if (crossBuildInMemoryCacheFactory instanceof DefaultCrossBuildInMemoryCacheFactory) {
+            ((DefaultCrossBuildInMemoryCacheFactory) crossBuildInMemoryCacheFactory).releaseValuesFromPreviousSession();
+        }
+
+        if (!tier.includes(Tier.RETAINED_STATE)) {
+            return;
+        }
+        buildLock.lock();
+        try {
+            if (buildRunning) {
+                LOGGER.debug("Deferring the release of daemon caches ({}) until the build finishes.", tier);
+                deferredTier = tier;
+            } else {
+                releaseRetainedState();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * Called before the daemon runs a build. Retained state is not released until {@link #buildFinished()} is called.
+     */
+    public void buildStarted() {
+        buildLock.lock();
+        try {
+            buildRunning = true;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * Called after the daemon ran a build. Releases the retained state evicted while the build was running.
+     */
+    public void buildFinished() {
+        buildLock.lock();
+        try {
+            buildRunning = false;
+            if (deferredTier != null) {
+                LOGGER.debug("Releasing daemon caches ({}) deferred during the build.", deferredTier);
+                deferredTier = null;
+                releaseRetainedState();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private void releaseRetainedState() {
+        Optional<ServiceRegistry> userHomeServices = userHomeServiceRegistry.getCurrentServices();
+        userHomeServices.ifPresent(services -> {
+            ClassLoaderCache classLoaderCache = services.get(ClassLoaderCache.class);
+            if (classLoaderCache instanceof DefaultClassLoaderCache) {
+                ((DefaultClassLoaderCache) classLoaderCache).removeUnused();
+            }
+            services.get(VirtualFileSystem.class).invalidateAll();
+        });
+    }
+}
@@ -20,17 +20,22 @@
 import org.gradle.api.internal.DocumentationRegistry;
 import org.gradle.internal.service.scopes.Scope;
 import org.gradle.internal.service.scopes.ServiceScope;
+import org.gradle.internal.time.Clock;
+import org.gradle.internal.time.Time;
 import org.gradle.internal.util.NumberUtil;
 import org.gradle.launcher.daemon.server.expiry.DaemonExpirationResult;
 import org.gradle.launcher.daemon.server.expiry.DaemonExpirationStatus;
 import org.gradle.launcher.daemon.server.expiry.DaemonExpirationStrategy;
+import org.gradle.launcher.daemon.server.health.DaemonCacheEviction.Tier;
 import org.gradle.launcher.daemon.server.health.gc.GarbageCollectionStats;
 import org.gradle.launcher.daemon.server.health.gc.GarbageCollectorMonitoringStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -46,6 +51,11 @@
  * expiring the daemon, whenever unhealthy conditions are detected, this strategy will
  * print a warning log to the console informing the user of the issue and instructing them
  * on how to adjust daemon memory settings.
+ *
+ * <p>Before expiring the daemon because of heap pressure, this strategy releases the caches retained by the daemon,
+ * see {@link DaemonCacheEviction}. Recreatable caches are released as soon as the heap usage is above the threshold,
+ * and retained state once the garbage collector is struggling. The daemon only expires when the pressure persists
+ * for {@link #EVICTION_GRACE_PERIOD_MILLIS} after all caches have been released.</p>
  */
 @ServiceScope(Scope.Global.class)
 public class HealthExpirationStrategy implements DaemonExpirationStrategy {
@@ -66,6 +76,12 @@ public class HealthExpirationStrategy implements DaemonExpirationStrategy {
      */
     public static final String EXPIRE_DAEMON_MESSAGE = "The Daemon will expire ";
 
+    /**
+     * The time given to the garbage collector to reclaim the released caches before the daemon expires.
+     * This spans a few health checks, so the GC statistics reflect the heap after the release.
+     */
+    static final long EVICTION_GRACE_PERIOD_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
     /**
      * Used to determine if a status of a given severity has already been logged.
      * We use this to ensure we don't print the same warning multiple times to the user
@@ -75,17 +91,38 @@ public class HealthExpirationStrategy implements DaemonExpirationStrategy {
     private DaemonExpirationStatus mostSevereStatus = DO_NOT_EXPIRE;
     private final Lock statusLock = new ReentrantLock();
 
+    /**
+     * The most expensive tier of caches released during the current episode of heap pressure, if any.
+     */
+    @Nullable
+    private Tier evictedTier;
+    private long evictedAt;
+    private final Lock evictionLock = new ReentrantLock();
+
     private final DaemonHealthStats stats;
     private final GarbageCollectorMonitoringStrategy strategy;
+    @Nullable
+    private final DaemonCacheEviction cacheEviction;
+    private final Clock clock;
     private final Logger logger;
 
     public HealthExpirationStrategy(DaemonHealthStats stats, GarbageCollectorMonitoringStrategy strategy) {
-        this(stats, strategy, LoggerFactory.getLogger(HealthExpirationStrategy.class));
+        this(stats, strategy, null, Time.clock(), LoggerFactory.getLogger(HealthExpirationStrategy.class));
+    }
+
+    public HealthExpirationStrategy(DaemonHealthStats stats, GarbageCollectorMonitoringStrategy strategy, DaemonCacheEviction cacheEviction) {
+        this(stats, strategy, cacheEviction, Time.clock(), LoggerFactory.getLogger(HealthExpirationStrategy.class));
     }
 
     HealthExpirationStrategy(DaemonHealthStats stats, GarbageCollectorMonitoringStrategy strategy, Logger logger) {
+        this(stats, strategy, null, Time.clock(), logger);
+    }
+
+    HealthExpirationStrategy(DaemonHealthStats stats, GarbageCollectorMonitoringStrategy strategy, @Nullable DaemonCacheEviction cacheEviction, Clock clock, Logger logger) {
         this.stats = stats;
         this.strategy = strategy;
+        this.cacheEviction = cacheEviction;
+        this.clock = clock;
         this.logger = logger;
     }
 
@@ -104,12 +141,20 @@ public DaemonExpirationResult checkExpiration() {
             && strategy.isAboveHeapUsageThreshold(heapStats.getUsedPercent())
         ) {
             if (strategy.isAboveGcThrashingThreshold(heapStats.getGcRate())) {
-                reasons.add("since the JVM garbage collector is thrashing");
-                expirationStatus = highestPriorityOf(IMMEDIATE_EXPIRE, expirationStatus);
+                if (!evictCaches(Tier.RETAINED_STATE)) {
+                    reasons.add("since the JVM garbage collector is thrashing");
+                    expirationStatus = highestPriorityOf(IMMEDIATE_EXPIRE, expirationStatus);
+                }
             } else if (strategy.isAboveGcRateThreshold(heapStats.getGcRate())) {
-                reasons.add("after running out of JVM heap space");
-                expirationStatus = highestPriorityOf(GRACEFUL_EXPIRE, expirationStatus);
+                if (!evictCaches(Tier.RETAINED_STATE)) {
+                    reasons.add("after running out of JVM heap space");
+                    expirationStatus = highestPriorityOf(GRACEFUL_EXPIRE, expirationStatus);
+                }
+            } else {
+                evictCaches(Tier.RECREATABLE);
             }
+        } else if (heapStats.isValid()) {
+            resetEvictedCaches();
         }
 
         GarbageCollectionStats nonHeapStats = stats.getNonHeapStats();
@@ -152,6 +197,41 @@ public DaemonExpirationResult checkExpiration() {
         return new DaemonExpirationResult(expirationStatus, reason);
     }
 
+    /**
+     * Releases the given tier of caches, unless already done during the current episode of heap pressure.
+     *
+     * @return true when the daemon should not expire yet, to give the garbage collector a chance to reclaim the released caches
+     */
+    private boolean evictCaches(Tier tier) {
+        if (cacheEviction == null) {
+            return false;
+        }
+
+        evictionLock.lock();
+        try {
+            long now = clock.getCurrentTime();
+            if (evictedTier != null && evictedTier.includes(tier)) {
+                return now - evictedAt < EVICTION_GRACE_PERIOD_MILLIS;
+            }
+            logger.info("Releasing daemon caches ({}) as the JVM heap usage is high.", tier);
+            cacheEviction.evict(tier);
+            evictedTier = tier;
+            evictedAt = now;
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void resetEvictedCaches() {
+        evictionLock.lock();
+        try {
+            evictedTier = null;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
     private boolean shouldPrintLog(DaemonExpirationStatus newStatus) {
         if (Boolean.getBoolean(DISABLE_PERFORMANCE_LOGGING)) {
             return false;
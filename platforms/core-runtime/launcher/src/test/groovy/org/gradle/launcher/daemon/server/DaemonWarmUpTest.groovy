@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server
+
+import org.gradle.initialization.ClassLoaderRegistry
+import org.gradle.internal.instantiation.InstantiatorFactory
+import org.gradle.internal.service.ServiceRegistry
+import spock.lang.Specification
+
+class DaemonWarmUpTest extends Specification {
+    final ServiceRegistry services = Mock(ServiceRegistry)
+
+    def "creates the services used by builds"() {
+        when:
+        new DaemonWarmUp(services).run()
+
+        then:
+        1 * services.get(ClassLoaderRegistry)
+        1 * services.get(InstantiatorFactory)
+    }
+
+    def "continues when a service cannot be created"() {
+        when:
+        new DaemonWarmUp(services).run()
+
+        then:
+        1 * services.get(ClassLoaderRegistry) >> { throw new IllegalStateException("broken") }
+        1 * services.get(InstantiatorFactory)
+        noExceptionThrown()
+    }
+}
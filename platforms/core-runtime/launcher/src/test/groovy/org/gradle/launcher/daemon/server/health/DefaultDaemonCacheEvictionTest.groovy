@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.launcher.daemon.server.health
+
+import org.gradle.api.internal.initialization.loadercache.ClassLoaderCache
+import org.gradle.api.internal.initialization.loadercache.DefaultClassLoaderCache
+import org.gradle.cache.internal.CleaningInMemoryCacheDecoratorFactory
+import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory
+import org.gradle.cache.internal.InMemoryCacheDecoratorFactory
+import org.gradle.internal.service.ServiceRegistry
+import org.gradle.internal.service.scopes.GradleUserHomeScopeServiceRegistry
+import org.gradle.internal.vfs.VirtualFileSystem
+import org.gradle.launcher.daemon.server.api.DaemonCommandExecution
+import org.gradle.launcher.daemon.server.exec.ReleaseDaemonCachesBetweenBuilds
+import spock.lang.Specification
+
+import static org.gradle.launcher.daemon.server.health.DaemonCacheEviction.Tier.RECREATABLE
+import static org.gradle.launcher.daemon.server.health.DaemonCacheEviction.Tier.RETAINED_STATE
+
+class DefaultDaemonCacheEvictionTest extends Specification {
+    def virtualFileSystem = Mock(VirtualFileSystem)
+    def classLoaderCache = Mock(DefaultClassLoaderCache)
+    def userHomeServices = Stub(ServiceRegistry) {
+        get(VirtualFileSystem) >> virtualFileSystem
+        get(ClassLoaderCache) >> classLoaderCache
+    }
+    def userHomeServiceRegistry = Stub(GradleUserHomeScopeServiceRegistry) {
+        getCurrentServices() >> Optional.of(userHomeServices)
+    }
+    def cacheEviction = new DefaultDaemonCacheEviction(Stub(InMemoryCacheDecoratorFactory), Stub(CrossBuildInMemoryCacheFactory), userHomeServiceRegistry)
+    def execution = Mock(DaemonCommandExecution)
+    def action = new ReleaseDaemonCachesBetweenBuilds(cacheEviction)
+
+    def "releases retained state right away when no build is running"() {
+        when:
+        cacheEviction.evict(RETAINED_STATE)
+
+        then:
+        1 * classLoaderCache.removeUnused()
+        1 * virtualFileSystem.invalidateAll()
+    }
+
+    def "does not release retained state when evicting recreatable caches"() {
+        when:
+        cacheEviction.evict(RECREATABLE)
+
+        then:
+        0 * classLoaderCache._
+        0 * virtualFileSystem._
+    }
+
+    def "defers the release of retained state until the build finishes"() {
+        when:
+        cacheEviction.buildStarted()
+        cacheEviction.evict(RETAINED_STATE)
+
+        then:
+        0 * classLoaderCache._
+        0 * virtualFileSystem._
+
+        when:
+        cacheEviction.buildFinished()
+
+        then:
+        1 * classLoaderCache.removeUnused()
+        1 * virtualFileSystem.invalidateAll()
+
+        when:
+        cacheEviction.buildStarted()
+        cacheEviction.buildFinished()
+
+        then:
+        0 * classLoaderCache._
+        0 * virtualFileSystem._
+    }
+
+    def "releases recreatable caches while a build is running"() {
+        def inMemoryCacheDecoratorFactory = Mock(CleaningInMemoryCacheDecoratorFactory)
+        def cacheEviction = new DefaultDaemonCacheEviction(inMemoryCacheDecoratorFactory, Stub(CrossBuildInMemoryCacheFactory), userHomeServiceRegistry)
+
+        when:
+        cacheEviction.buildStarted()
+        cacheEviction.evict(RETAINED_STATE)
+
+        then:
+        1 * inMemoryCacheDecoratorFactory.clearCaches(_)
+        0 * virtualFileSystem._
+    }
+
+    def "releases retained state evicted during a build once the build finishes"() {
+        def building = false
+
+        when:
+        action.execute(execution)
+
+        then:
+        1 * execution.proceed() >> {
+            building = true
+            cacheEviction.evict(RETAINED_STATE)
+            building = false
+        }
+        1 * virtualFileSystem.invalidateAll() >> {
+            assert !building
+        }
+    }
+
+    def "releases retained state evicted during a build once the build fails"() {
+        when:
+        action.execute(execution)
+
+        then:
+        1 * execution.proceed() >> {
+            cacheEviction.evict(RETAINED_STATE)
+            throw new RuntimeException("broken")
+        }
+        1 * virtualFileSystem.invalidateAll()
+        thrown(RuntimeException)
+    }
+
+    def "does not release retained state after a build when nothing was evicted"() {
+        when:
+        action.execute(execution)
+
+        then:
+        1 * execution.proceed()
+        0 * classLoaderCache._
+        0 * virtualFileSystem._
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.gradle.launcher.daemon.server.health
 
+import org.gradle.internal.time.Clock
 import org.gradle.launcher.daemon.server.expiry.DaemonExpirationResult
 import org.gradle.launcher.daemon.server.health.gc.GarbageCollectionStats
 import org.gradle.launcher.daemon.server.health.gc.GarbageCollectorMonitoringStrategy
@@ -26,6 +27,8 @@ import spock.lang.Specification
 
 import static org.gradle.launcher.daemon.server.expiry.DaemonExpirationStatus.GRACEFUL_EXPIRE
 import static org.gradle.launcher.daemon.server.expiry.DaemonExpirationStatus.IMMEDIATE_EXPIRE
+import static org.gradle.launcher.daemon.server.health.DaemonCacheEviction.Tier.RECREATABLE
+import static org.gradle.launcher.daemon.server.health.DaemonCacheEviction.Tier.RETAINED_STATE
 
 /**
  * Tests {@link HealthExpirationStrategy}.
@@ -319,6 +322,92 @@ class HealthExpirationStrategyTest extends Specification {
         10            | 90             | 15   | 0     | false
     }
 
+    def "releases recreatable caches when heap usage is high"() {
+        given:
+        def cacheEviction = Mock(DaemonCacheEviction)
+        def underTest = new HealthExpirationStrategy(health(stats(strategy.getHeapUsageThreshold() + 1, 1, true), belowThreshold), strategy, cacheEviction, Stub(Clock), Stub(Logger))
+
+        when:
+        def result = underTest.checkExpiration()
+
+        then:
+        result == DaemonExpirationResult.NOT_TRIGGERED
+        1 * cacheEviction.evict(RECREATABLE)
+
+        when:
+        result = underTest.checkExpiration()
+
+        then:
+        result == DaemonExpirationResult.NOT_TRIGGERED
+        0 * cacheEviction._
+    }
+
+    def "releases retained state before expiring when #condition"() {
+        given:
+        def cacheEviction = Mock(DaemonCacheEviction)
+        def clock = Mock(Clock)
+        def underTest = new HealthExpirationStrategy(health(heapStats, belowThreshold), strategy, cacheEviction, clock, Stub(Logger))
+
+        when:
+        def result = underTest.checkExpiration()
+
+        then:
+        result == DaemonExpirationResult.NOT_TRIGGERED
+        _ * clock.getCurrentTime() >> 1000
+        1 * cacheEviction.evict(RETAINED_STATE)
+
+        when:
+        result = underTest.checkExpiration()
+
+        then:
+        result == DaemonExpirationResult.NOT_TRIGGERED
+        _ * clock.getCurrentTime() >> 1000 + HealthExpirationStrategy.EVICTION_GRACE_PERIOD_MILLIS - 1
+        0 * cacheEviction._
+
+        when:
+        result = underTest.checkExpiration()
+
+        then:
+        result.status == status
+        _ * clock.getCurrentTime() >> 1000 + HealthExpirationStrategy.EVICTION_GRACE_PERIOD_MILLIS
+        0 * cacheEviction._
+
+        where:
+        condition                          | heapStats               | status
+        "heap space is low"                | aboveHeapThreshold      | GRACEFUL_EXPIRE
+        "garbage collector is thrashing"   | aboveThrashingThreshold | IMMEDIATE_EXPIRE
+    }
+
+    def "releases caches again once heap usage has recovered"() {
+        given:
+        def cacheEviction = Mock(DaemonCacheEviction)
+        def stats = Mock(DaemonHealthStats)
+        stats.getNonHeapStats() >> belowThreshold
+        def underTest = new HealthExpirationStrategy(stats, strategy, cacheEviction, Stub(Clock), Stub(Logger))
+
+        when:
+        underTest.checkExpiration()
+
+        then:
+        _ * stats.getHeapStats() >> aboveHeapThreshold
+        1 * cacheEviction.evict(RETAINED_STATE)
+
+        when:
+        underTest.checkExpiration()
+
+        then:
+        _ * stats.getHeapStats() >> belowThreshold
+        0 * cacheEviction._
+
+        when:
+        def result = underTest.checkExpiration()
+
+        then:
+        result == DaemonExpirationResult.NOT_TRIGGERED
+        _ * stats.getHeapStats() >> aboveHeapThreshold
+        1 * cacheEviction.evict(RETAINED_STATE)
+    }
+
     GarbageCollectionStats stats(int percent, double rate, boolean valid) {
         return Stub(GarbageCollectionStats) {
             getUsedPercent() >> percent
@@ -16,6 +16,7 @@
 
 package org.gradle.internal.logging;
 
+import org.gradle.api.logging.LogLevel;
 import org.gradle.api.logging.LoggingOutput;
 import org.gradle.api.logging.configuration.ConsoleOutput;
 import org.gradle.internal.logging.events.OutputEventListener;
@@ -91,6 +92,17 @@ public interface LoggingOutputInternal extends LoggingOutput {
     @UsedByScanPlugin
     void removeOutputEventListener(OutputEventListener listener);
 
+    /**
+     * Adds the given listener as a logging destination which receives the log events at the given level or above, regardless of the log level of the output.
+     * Log events are produced down to the given level while the listener is attached, but are only rendered at the log level of the output.
+     */
+    void addCapturingOutputEventListener(OutputEventListener listener, LogLevel captureLevel);
+
+    /**
+     * Removes the given capturing listener.
+     */
+    void removeCapturingOutputEventListener(OutputEventListener listener);
+
     /**
      * Flush any outstanding output.
      */
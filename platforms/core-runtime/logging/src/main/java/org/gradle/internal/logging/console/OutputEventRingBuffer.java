@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.logging.console;
+
+import org.gradle.internal.logging.events.OutputEvent;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue of output events that many threads can add to without locking, and that a single thread at a time takes events from.
+ *
+ * <p>The slots of the queue are allocated up front and reused. Each slot has a sequence number which tells whether the slot is free
+ * for a given position, or holds the event at that position. A producer claims the next position by compare-and-set, stores its event
+ * and then publishes the slot. Events are taken in the order their positions were claimed.</p>
+ */
+class OutputEventRingBuffer {
+    private final int mask;
+    private final AtomicReferenceArray<OutputEvent> events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    OutputEventRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, but was " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.events = new AtomicReferenceArray<OutputEvent>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the given event to the queue.
+     *
+     * @return the position of the event, or -1 when the queue is full.
+     */
+    long offer(OutputEvent event) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events.lazySet(index, event);
+                    sequences.lazySet(index, position + 1);
+                    return position;
+                }
+            } else if (available < 0) {
+                // The slot still holds the event from the previous lap
+                return -1;
+            }
+            // Else, another producer has claimed this position
+        }
+    }
+
+    /**
+     * Takes the next event from the queue. Must not be called concurrently.
+     *
+     * @return the event, or null when the queue is empty or the next event has not been published yet.
+     */
+    @Nullable
+    OutputEvent poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        OutputEvent event = events.get(index);
+        events.lazySet(index, null);
+        sequences.lazySet(index, position + mask + 1);
+        head.lazySet(position + 1);
+        return event;
+    }
+
+    /**
+     * Returns the position of the next event to be taken from the queue.
+     */
+    long getHead() {
+        return head.get();
+    }
+}
@@ -25,8 +25,6 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -34,18 +32,24 @@
 
 /**
  * Queue output events to be forwarded and schedule flush when time passed or if end of build is signalled.
+ *
+ * <p>Events are queued without locking, so threads producing output do not wait for the rendering of earlier events.
+ * Events are rendered by the thread that schedules updates, or by the producer of an event that must be visible now,
+ * such as a prompt or the end of the output. A producer also renders the queued events when too many have accumulated.</p>
  */
 public class ThrottlingOutputEventListener implements OutputEventListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(ThrottlingOutputEventListener.class);
+    private static final int MAX_QUEUED_EVENTS = 10000;
+    private static final int QUEUE_CAPACITY = 16384;
 
     private final OutputEventListener listener;
 
     private final ScheduledExecutorService executor;
     private final Clock clock;
     private final int throttleMs;
-    private final Object lock = new Object();
+    private final Object renderLock = new Object();
 
-    private final List<OutputEvent> queue = new ArrayList<OutputEvent>();
+    private final OutputEventRingBuffer queue = new OutputEventRingBuffer(QUEUE_CAPACITY);
 
     public ThrottlingOutputEventListener(OutputEventListener listener, Clock clock) {
         this(listener, Integer.getInteger("org.gradle.internal.console.throttle", 100), Executors.newSingleThreadScheduledExecutor(), clock);
@@ -76,34 +80,49 @@ public void run() {
 
     @Override
     public void onOutput(OutputEvent newEvent) {
-        synchronized (lock) {
-            queue.add(newEvent);
-
-            if (queue.size() == 10000) {
-                renderNow();
-                return;
-            }
+        long position = queue.offer(newEvent);
+        while (position < 0) {
+            // The queue is full, render the oldest events to make room
+            renderNow(queue.getHead());
+            position = queue.offer(newEvent);
+        }
 
-            if (newEvent instanceof InteractiveEvent) {
-                renderNow();
-                return;
-            }
+        if (position + 1 - queue.getHead() >= MAX_QUEUED_EVENTS) {
+            renderNow(position);
+            return;
+        }
 
-            if (newEvent instanceof EndOutputEvent) {
-                // Flush and clean up
-                renderNow();
-                executor.shutdown();
-            }
+        if (newEvent instanceof InteractiveEvent) {
+            renderNow(position);
+            return;
+        }
 
-            // Else, wait for the next update event
+        if (newEvent instanceof EndOutputEvent) {
+            // Flush and clean up
+            renderNow(position);
+            executor.shutdown();
         }
+
+        // Else, wait for the next update event
     }
 
-    private void renderNow() {
-        // Remove event only as it is handled, and leave unhandled events in the queue
-        while (!queue.isEmpty()) {
-            OutputEvent event = queue.remove(0);
-            listener.onOutput(event);
+    /**
+     * Renders the queued events, at least up to the given position.
+     */
+    private void renderNow(long position) {
+        synchronized (renderLock) {
+            while (true) {
+                // Remove event only as it is handled, and leave unhandled events in the queue
+                OutputEvent event = queue.poll();
+                if (event != null) {
+                    listener.onOutput(event);
+                } else if (queue.getHead() <= position) {
+                    // Another thread has claimed the next position, but not published its event yet
+                    Thread.yield();
+                } else {
+                    return;
+                }
+            }
         }
     }
 }
@@ -32,7 +32,9 @@
 
 import java.io.Closeable;
 import java.io.OutputStream;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 public class DefaultLoggingManager implements LoggingManagerInternal, Closeable {
@@ -47,6 +49,7 @@ public class DefaultLoggingManager implements LoggingManagerInternal, Closeable
     private final Set<StandardOutputListener> stdoutListeners = new LinkedHashSet<StandardOutputListener>();
     private final Set<StandardOutputListener> stderrListeners = new LinkedHashSet<StandardOutputListener>();
     private final Set<OutputEventListener> outputEventListeners = new LinkedHashSet<OutputEventListener>();
+    private final Map<OutputEventListener, LogLevel> capturingOutputEventListeners = new LinkedHashMap<OutputEventListener, LogLevel>();
 
     public DefaultLoggingManager(LoggingSourceSystem slf4jLoggingSystem, LoggingSourceSystem javaUtilLoggingSystem, LoggingSourceSystem stdOutLoggingSystem,
                                  LoggingSourceSystem stdErrLoggingSystem, LoggingRouter loggingRouter) {
@@ -73,6 +76,9 @@ public DefaultLoggingManager start() {
         for (OutputEventListener outputEventListener : outputEventListeners) {
             loggingOutput.addOutputEventListener(outputEventListener);
         }
+        for (Map.Entry<OutputEventListener, LogLevel> entry : capturingOutputEventListeners.entrySet()) {
+            loggingOutput.addCapturingOutputEventListener(entry.getKey(), entry.getValue());
+        }
         loggingRouter.start();
 
         slf4jLoggingSystem.enableCapture();
@@ -98,6 +104,9 @@ public DefaultLoggingManager stop() {
             for (OutputEventListener listener : outputEventListeners) {
                 loggingOutput.removeOutputEventListener(listener);
             }
+            for (OutputEventListener listener : capturingOutputEventListeners.keySet()) {
+                loggingOutput.removeCapturingOutputEventListener(listener);
+            }
             loggingRouter.stop();
         } finally {
             started = false;
@@ -211,6 +220,23 @@ public void removeOutputEventListener(OutputEventListener listener) {
         }
     }
 
+    @Override
+    public void addCapturingOutputEventListener(OutputEventListener listener, LogLevel captureLevel) {
+        if (!capturingOutputEventListeners.containsKey(listener)) {
+            capturingOutputEventListeners.put(listener, captureLevel);
+            if (started) {
+                loggingOutput.addCapturingOutputEventListener(listener, captureLevel);
+            }
+        }
+    }
+
+    @Override
+    public void removeCapturingOutputEventListener(OutputEventListener listener) {
+        if (capturingOutputEventListeners.remove(listener) != null && started) {
+            loggingOutput.removeCapturingOutputEventListener(listener);
+        }
+    }
+
     @Override
     public void attachProcessConsole(ConsoleOutput consoleOutput) {
         loggingRouter.attachProcessConsole(consoleOutput);
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.logging.sink;
+
+import org.gradle.internal.UncheckedException;
+import org.gradle.internal.logging.events.OutputEvent;
+import org.gradle.internal.logging.events.OutputEventListener;
+import org.gradle.internal.logging.serializer.OutputEventSerializers;
+import org.gradle.internal.serialize.Serializer;
+import org.gradle.internal.serialize.kryo.KryoBackedDecoder;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the events written by a {@link BinaryLogWriter}.
+ */
+public class BinaryLogReader implements Closeable {
+    private final Serializer<OutputEvent> serializer = OutputEventSerializers.create().build(OutputEvent.class);
+    private final KryoBackedDecoder decoder;
+
+    public BinaryLogReader(InputStream inputStream) throws IOException {
+        this.decoder = new KryoBackedDecoder(inputStream);
+        if (decoder.readInt() != BinaryLogWriter.MAGIC) {
+            throw new IOException("Not a binary build log.");
+        }
+        int version = decoder.readSmallInt();
+        if (version != BinaryLogWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported binary build log version " + version + ".");
+        }
+    }
+
+    /**
+     * Forwards all events of the log to the given listener, in the order they were written.
+     * Stops at the end of the log, or at the last complete event when the log was truncated.
+     */
+    public void readAll(OutputEventListener listener) {
+        while (true) {
+            OutputEvent event;
+            try {
+                event = serializer.read(decoder);
+            } catch (EOFException e) {
+                return;
+            } catch (Exception e) {
+                throw UncheckedException.throwAsUncheckedException(e);
+            }
+            listener.onOutput(event);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        decoder.close();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.logging.sink;
+
+import org.gradle.api.logging.LogLevel;
+import org.gradle.internal.logging.console.DefaultUserInputReceiver;
+import org.gradle.internal.logging.events.EndOutputEvent;
+import org.gradle.internal.logging.events.LogLevelChangeEvent;
+import org.gradle.internal.logging.events.OutputEvent;
+import org.gradle.internal.logging.events.OutputEventListener;
+import org.gradle.internal.time.Time;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Renders a log written by {@link BinaryLogWriter} as plain text, at a given log level.
+ *
+ * <p>The events go through the same pipeline as when rendered to a plain console during the build.
+ * The log holds the events down to the level at which they were captured, which can be finer than the log level of the build.
+ * Rendering it at any level down to the capture level gives the same output as if the build had run at that level.</p>
+ *
+ * <p>Usage: {@code BinaryLogRenderer <log file> [log level]}, where the log level defaults to {@code LIFECYCLE}.</p>
+ */
+public class BinaryLogRenderer {
+    private final LogLevel logLevel;
+
+    public BinaryLogRenderer(LogLevel logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    public void render(InputStream binaryLog, OutputStream stdout, OutputStream stderr) throws IOException {
+        DefaultUserInputReceiver userInput = new DefaultUserInputReceiver();
+        final OutputEventRenderer renderer = new OutputEventRenderer(Time.clock(), userInput);
+        userInput.attachConsole(renderer);
+        renderer.configure(logLevel);
+        renderer.addPlainConsole(stdout, stderr);
+
+        BinaryLogReader reader = new BinaryLogReader(binaryLog);
+        try {
+            reader.readAll(new OutputEventListener() {
+                @Override
+                public void onOutput(OutputEvent event) {
+                    // Render at the requested level, regardless of the level of the build
+                    if (!(event instanceof LogLevelChangeEvent)) {
+                        renderer.onOutput(event);
+                    }
+                }
+            });
+        } finally {
+            renderer.onOutput(new EndOutputEvent());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: BinaryLogRenderer <log file> [log level]");
+            System.exit(1);
+        }
+        LogLevel logLevel = args.length == 2 ? LogLevel.valueOf(args[1].toUpperCase(Locale.ROOT)) : LogLevel.LIFECYCLE;
+        InputStream inputStream = new BufferedInputStream(new FileInputStream(new File(args[0])));
+        try {
+            new BinaryLogRenderer(logLevel).render(inputStream, System.out, System.err);
+        } finally {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.logging.sink;
+
+import org.gradle.internal.SystemProperties;
+import org.gradle.internal.UncheckedException;
+import org.gradle.internal.logging.events.EndOutputEvent;
+import org.gradle.internal.logging.events.FlushOutputEvent;
+import org.gradle.internal.logging.events.LogEvent;
+import org.gradle.internal.logging.events.OutputEvent;
+import org.gradle.internal.logging.events.OutputEventListener;
+import org.gradle.internal.logging.serializer.OutputEventSerializers;
+import org.gradle.internal.serialize.Serializer;
+import org.gradle.internal.serialize.SerializerRegistry;
+import org.gradle.internal.serialize.kryo.KryoBackedEncoder;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * Writes the log output and progress events it receives to a stream in a compact binary format, without rendering them.
+ * The events can be rendered later using {@link BinaryLogRenderer}.
+ *
+ * <p>Events which are only relevant to an interactive console, such as prompts, are not written.
+ * The exceptions of log events are written as their stack trace, so the log can be rendered without the classes of the exceptions.</p>
+ */
+public class BinaryLogWriter implements OutputEventListener, Closeable {
+    static final int MAGIC = 0x474C4F47;
+    static final int FORMAT_VERSION = 1;
+    private static final String EOL = SystemProperties.getInstance().getLineSeparator();
+
+    private final SerializerRegistry registry = OutputEventSerializers.create();
+    private final Serializer<OutputEvent> serializer = registry.build(OutputEvent.class);
+    private final KryoBackedEncoder encoder;
+
+    public BinaryLogWriter(OutputStream outputStream) {
+        this.encoder = new KryoBackedEncoder(outputStream);
+        encoder.writeInt(MAGIC);
+        encoder.writeSmallInt(FORMAT_VERSION);
+    }
+
+    @Override
+    public synchronized void onOutput(OutputEvent event) {
+        if (registry.canSerialize(event.getClass())) {
+            try {
+                serializer.write(encoder, withRenderedException(event));
+            } catch (Exception e) {
+                throw UncheckedException.throwAsUncheckedException(e);
+            }
+        } else if (event instanceof FlushOutputEvent || event instanceof EndOutputEvent) {
+            encoder.flush();
+        }
+    }
+
+    private static OutputEvent withRenderedException(OutputEvent event) {
+        if (!(event instanceof LogEvent) || ((LogEvent) event).getThrowable() == null) {
+            return event;
+        }
+        LogEvent logEvent = (LogEvent) event;
+        StringWriter stackTrace = new StringWriter();
+        PrintWriter writer = new PrintWriter(stackTrace);
+        logEvent.getThrowable().printStackTrace(writer);
+        writer.close();
+        String renderedException = stackTrace.toString();
+        if (renderedException.endsWith(EOL)) {
+            renderedException = renderedException.substring(0, renderedException.length() - EOL.length());
+        }
+        return new LogEvent(logEvent.getTimestamp(), logEvent.getCategory(), logEvent.getLogLevel(), logEvent.getMessage() + EOL + renderedException, null, logEvent.getBuildOperationId());
+    }
+
+    @Override
+    public synchronized void close() {
+        encoder.close();
+    }
+}
@@ -46,6 +46,7 @@
 import org.gradle.internal.logging.events.ProgressStartEvent;
 import org.gradle.internal.logging.events.RenderableOutputEvent;
 import org.gradle.internal.logging.format.PrettyPrefixedLogHeaderFormatter;
+import org.gradle.internal.logging.slf4j.Slf4jLoggingConfigurer;
 import org.gradle.internal.logging.text.StreamBackedStandardOutputListener;
 import org.gradle.internal.logging.text.StreamingStyledTextOutput;
 import org.gradle.internal.nativeintegration.console.ConsoleMetaData;
@@ -55,6 +56,8 @@
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -69,6 +72,11 @@ public class OutputEventRenderer implements OutputEventListener, LoggingRouter {
     private final GlobalUserInputReceiver userInput;
     private final ListenerBroadcast<OutputEventListener> formatters = new ListenerBroadcast<OutputEventListener>(OutputEventListener.class);
     private final OutputEventTransformer transformer = new OutputEventTransformer(formatters.getSource(), lock);
+    private final ListenerBroadcast<OutputEventListener> capturingListeners = new ListenerBroadcast<OutputEventListener>(OutputEventListener.class);
+    private final OutputEventTransformer capturingTransformer = new OutputEventTransformer(capturingListeners.getSource(), lock);
+    private final Map<OutputEventListener, CaptureLevelFilter> captureLevelFilters = new HashMap<OutputEventListener, CaptureLevelFilter>();
+    // The finest level of the capturing listeners, or null when there are none
+    private final AtomicReference<LogLevel> captureLevel = new AtomicReference<LogLevel>();
 
     private ColorMap colourMap;
     private OutputStream originalStdOut;
@@ -237,6 +245,44 @@ public void removeOutputEventListener(OutputEventListener listener) {
         }
     }
 
+    @Override
+    public void addCapturingOutputEventListener(OutputEventListener listener, LogLevel captureLevel) {
+        synchronized (lock) {
+            if (captureLevelFilters.containsKey(listener)) {
+                return;
+            }
+            CaptureLevelFilter filter = new CaptureLevelFilter(listener, captureLevel);
+            listener.onOutput(new LogLevelChangeEvent(captureLevel));
+            captureLevelFilters.put(listener, filter);
+            capturingListeners.add(filter);
+            updateCaptureLevel();
+        }
+    }
+
+    @Override
+    public void removeCapturingOutputEventListener(OutputEventListener listener) {
+        synchronized (lock) {
+            CaptureLevelFilter filter = captureLevelFilters.remove(listener);
+            if (filter == null) {
+                return;
+            }
+            capturingListeners.remove(filter);
+            updateCaptureLevel();
+            listener.onOutput(new EndOutputEvent());
+        }
+    }
+
+    private void updateCaptureLevel() {
+        LogLevel finest = null;
+        for (CaptureLevelFilter filter : captureLevelFilters.values()) {
+            if (finest == null || filter.captureLevel.compareTo(finest) < 0) {
+                finest = filter.captureLevel;
+            }
+        }
+        captureLevel.set(finest);
+        Slf4jLoggingConfigurer.configureCaptureLevel(finest);
+    }
+
     public void addRichConsoleWithErrorOutputOnStdout(Console stdout, ConsoleMetaData consoleMetaData, boolean verbose) {
         OutputEventListener consoleListener = new StyledTextOutputBackedRenderer(stdout.getBuildOutputArea());
         OutputEventListener consoleChain = getConsoleChainWithDynamicStdout(stdout, consoleMetaData, verbose, consoleListener);
@@ -421,6 +467,11 @@ public void configure(LogLevel logLevel) {
 
     @Override
     public void onOutput(OutputEvent event) {
+        // Capturing listeners see the events before they are filtered by the log level of the output
+        LogLevel captureLevel = this.captureLevel.get();
+        if (captureLevel != null && !(event instanceof LogLevelChangeEvent) && (event.getLogLevel() == null || event.getLogLevel().compareTo(captureLevel) >= 0 || isProgressEvent(event))) {
+            capturingTransformer.onOutput(event);
+        }
         if (event.getLogLevel() != null && event.getLogLevel().compareTo(logLevel.get()) < 0 && !isProgressEvent(event)) {
             return;
         }
@@ -435,7 +486,7 @@ public void onOutput(OutputEvent event) {
         transformer.onOutput(event);
     }
 
-    private boolean isProgressEvent(OutputEvent event) {
+    private static boolean isProgressEvent(OutputEvent event) {
         return event instanceof ProgressStartEvent || event instanceof ProgressEvent || event instanceof ProgressCompleteEvent;
     }
 
@@ -449,6 +500,23 @@ private static class SnapshotImpl implements Snapshot {
         }
     }
 
+    private static class CaptureLevelFilter implements OutputEventListener {
+        private final OutputEventListener delegate;
+        private final LogLevel captureLevel;
+
+        CaptureLevelFilter(OutputEventListener delegate, LogLevel captureLevel) {
+            this.delegate = delegate;
+            this.captureLevel = captureLevel;
+        }
+
+        @Override
+        public void onOutput(OutputEvent event) {
+            if (event.getLogLevel() == null || event.getLogLevel().compareTo(captureLevel) >= 0 || isProgressEvent(event)) {
+                delegate.onOutput(event);
+            }
+        }
+    }
+
     private static class LazyListener implements OutputEventListener {
         private Factory<OutputEventListener> factory;
         private OutputEventListener delegate;
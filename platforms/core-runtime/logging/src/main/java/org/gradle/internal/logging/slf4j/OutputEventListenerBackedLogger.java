@@ -41,7 +41,7 @@ public String getName() {
 
     @Override
     boolean isLevelAtMost(LogLevel levelLimit) {
-        return levelLimit.compareTo(context.getLevel()) >= 0;
+        return levelLimit.compareTo(context.getEnabledLevel()) >= 0;
     }
 
     @Override
@@ -25,6 +25,7 @@
 import org.slf4j.Logger;
 import org.slf4j.Marker;
 
+import javax.annotation.Nullable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -39,6 +40,7 @@ public class OutputEventListenerBackedLoggerContext implements ILoggerFactory {
 
     private final ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<String, Logger>();
     private final AtomicReference<LogLevel> level = new AtomicReference<LogLevel>();
+    private final AtomicReference<LogLevel> captureLevel = new AtomicReference<LogLevel>();
     private final AtomicReference<OutputEventListener> outputEventListener = new AtomicReference<OutputEventListener>();
     private final Clock clock;
 
@@ -85,6 +87,7 @@ public Logger getLogger(String name) {
 
     public void reset() {
         setLevel(DEFAULT_LOG_LEVEL);
+        setCaptureLevel(null);
         DefaultUserInputReceiver userInputReceiver = new DefaultUserInputReceiver();
         OutputEventRenderer renderer = new OutputEventRenderer(clock, userInputReceiver);
         userInputReceiver.attachConsole(renderer);
@@ -103,6 +106,23 @@ public void setLevel(LogLevel level) {
         this.level.set(level);
     }
 
+    /**
+     * Sets a level, finer than the global log level, down to which log events are still produced so they can be captured by listeners that filter them separately.
+     * The global log level is unaffected. Passing {@code null} removes the capture level.
+     */
+    public void setCaptureLevel(@Nullable LogLevel captureLevel) {
+        this.captureLevel.set(captureLevel);
+    }
+
+    /**
+     * Returns the finest level at which log events are produced, which is either the global log level or the capture level.
+     */
+    public LogLevel getEnabledLevel() {
+        LogLevel level = this.level.get();
+        LogLevel captureLevel = this.captureLevel.get();
+        return captureLevel != null && captureLevel.compareTo(level) < 0 ? captureLevel : level;
+    }
+
     @SuppressWarnings("OverridingMethodInconsistentArgumentNamesChecker")
     private static class NoOpLogger implements org.gradle.api.logging.Logger {
 
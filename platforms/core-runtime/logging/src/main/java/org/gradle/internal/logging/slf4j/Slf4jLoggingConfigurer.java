@@ -22,6 +22,8 @@
 import org.slf4j.ILoggerFactory;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 /**
  * A {@link LoggingConfigurer} implementation which configures custom slf4j binding to route logging events to a provided {@link
  * OutputEventListener}.
@@ -57,4 +59,14 @@ public void configure(LogLevel logLevel) {
         currentLevel = logLevel;
         context.setLevel(logLevel);
     }
+
+    /**
+     * Makes slf4j produce log events down to the given level, regardless of the configured log level, or stops doing so when {@code null}.
+     */
+    public static void configureCaptureLevel(@Nullable LogLevel captureLevel) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (loggerFactory instanceof OutputEventListenerBackedLoggerContext) {
+            ((OutputEventListenerBackedLoggerContext) loggerFactory).setCaptureLevel(captureLevel);
+        }
+    }
 }
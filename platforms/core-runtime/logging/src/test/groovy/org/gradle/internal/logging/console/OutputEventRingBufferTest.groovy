@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.logging.console
+
+import org.gradle.internal.logging.OutputSpecification
+import org.gradle.internal.logging.events.LogEvent
+
+class OutputEventRingBufferTest extends OutputSpecification {
+    def queue = new OutputEventRingBuffer(4)
+
+    def "takes events in the order they were added"() {
+        def event1 = event('1')
+        def event2 = event('2')
+
+        expect:
+        queue.offer(event1) == 0
+        queue.offer(event2) == 1
+        queue.poll() == event1
+        queue.poll() == event2
+        queue.poll() == null
+        queue.head == 2
+    }
+
+    def "rejects events when full"() {
+        given:
+        4.times { queue.offer(event("$it")) }
+
+        expect:
+        queue.offer(event('4')) == -1
+
+        when:
+        queue.poll()
+
+        then:
+        queue.offer(event('4')) == 4
+    }
+
+    def "reuses slots"() {
+        expect:
+        (0..<10).each {
+            def event = event("$it")
+            assert queue.offer(event) == it
+            assert queue.poll() == event
+        }
+        queue.poll() == null
+    }
+
+    def "rejects capacity that is not a power of two"() {
+        when:
+        new OutputEventRingBuffer(3)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "keeps the order of the events of each producer"() {
+        def queue = new OutputEventRingBuffer(64)
+        def producers = 4
+        def eventsPerProducer = 10000
+
+        when:
+        def threads = (0..<producers).collect { producer ->
+            Thread.start {
+                eventsPerProducer.times {
+                    def event = event("$producer:$it")
+                    while (queue.offer(event) < 0) {
+                        Thread.yield()
+                    }
+                }
+            }
+        }
+        def received = (0..<producers).collect { [] }
+        def count = 0
+        while (count < producers * eventsPerProducer) {
+            def event = queue.poll() as LogEvent
+            if (event == null) {
+                Thread.yield()
+                continue
+            }
+            def (producer, index) = event.message.split(':')
+            received[producer as int] << (index as int)
+            count++
+        }
+        threads*.join()
+
+        then:
+        received.every { it == (0..<eventsPerProducer).toList() }
+        queue.poll() == null
+    }
+}
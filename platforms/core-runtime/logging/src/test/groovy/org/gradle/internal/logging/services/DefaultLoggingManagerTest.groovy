@@ -305,6 +305,43 @@ class DefaultLoggingManagerTest extends Specification {
         loggingManager.removeOutputEventListener(listener)
     }
 
+    public void "adds capturing output event listener on start and removes on stop"() {
+        final OutputEventListener listener = Mock(OutputEventListener.class)
+
+        loggingManager.addCapturingOutputEventListener(listener, LogLevel.DEBUG)
+
+        when:
+        loggingManager.start()
+
+        then:
+        1 * loggingRouter.addCapturingOutputEventListener(listener, LogLevel.DEBUG)
+
+        when:
+        loggingManager.stop()
+
+        then:
+        1 * loggingRouter.removeCapturingOutputEventListener(listener)
+    }
+
+    public void "can add capturing output event listener while started"() {
+        final OutputEventListener listener = Mock(OutputEventListener.class)
+
+        loggingManager.start()
+
+        when:
+        loggingManager.addCapturingOutputEventListener(listener, LogLevel.INFO)
+
+        then:
+        1 * loggingRouter.addCapturingOutputEventListener(listener, LogLevel.INFO)
+
+        when:
+        loggingManager.removeCapturingOutputEventListener(listener)
+        loggingManager.stop()
+
+        then:
+        1 * loggingRouter.removeCapturingOutputEventListener(listener)
+    }
+
     public void "can add standard out listener while started"() {
         final StandardOutputListener stdoutListener = Mock(StandardOutputListener.class)
 
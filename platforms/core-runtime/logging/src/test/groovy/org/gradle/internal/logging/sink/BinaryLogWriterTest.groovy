@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.logging.sink
+
+import org.gradle.api.logging.LogLevel
+import org.gradle.internal.logging.OutputSpecification
+import org.gradle.internal.logging.console.GlobalUserInputReceiver
+import org.gradle.internal.logging.events.EndOutputEvent
+import org.gradle.internal.logging.events.FlushOutputEvent
+import org.gradle.internal.logging.events.LogEvent
+import org.gradle.internal.logging.events.LogLevelChangeEvent
+import org.gradle.internal.logging.events.OutputEvent
+import org.gradle.internal.logging.events.OutputEventListener
+import org.gradle.internal.logging.events.ProgressCompleteEvent
+import org.gradle.internal.logging.events.ProgressStartEvent
+import org.gradle.internal.time.Time
+
+class BinaryLogWriterTest extends OutputSpecification {
+    def output = new ByteArrayOutputStream()
+    def writer = new BinaryLogWriter(output)
+
+    def "reads events in the order they were written"() {
+        when:
+        writer.onOutput(new LogLevelChangeEvent(LogLevel.DEBUG))
+        writer.onOutput(start(id: 1L, description: 'description'))
+        writer.onOutput(event('info', LogLevel.INFO))
+        writer.onOutput(event('debug', LogLevel.DEBUG))
+        writer.onOutput(complete(1L, 'done'))
+        writer.close()
+        def events = read()
+
+        then:
+        events.size() == 5
+        (events[0] as LogLevelChangeEvent).newLogLevel == LogLevel.DEBUG
+        (events[1] as ProgressStartEvent).description == 'description'
+        (events[2] as LogEvent).message == 'info'
+        (events[2] as LogEvent).logLevel == LogLevel.INFO
+        (events[2] as LogEvent).timestamp == tenAm
+        (events[3] as LogEvent).message == 'debug'
+        (events[4] as ProgressCompleteEvent).status == 'done'
+    }
+
+    def "does not write events only relevant to an interactive console"() {
+        when:
+        writer.onOutput(updateNow())
+        writer.onOutput(new FlushOutputEvent())
+        writer.onOutput(event('message'))
+        writer.onOutput(new EndOutputEvent())
+        writer.close()
+        def events = read()
+
+        then:
+        events.size() == 1
+        (events[0] as LogEvent).message == 'message'
+    }
+
+    def "reads events up to the end of a truncated log"() {
+        given:
+        writer.onOutput(event('first'))
+        writer.onOutput(new FlushOutputEvent())
+        def complete = output.size()
+        writer.onOutput(event('second'))
+        writer.close()
+        def bytes = output.toByteArray()
+
+        when:
+        def events = read(Arrays.copyOf(bytes, complete + 1))
+
+        then:
+        events.size() == 1
+        (events[0] as LogEvent).message == 'first'
+    }
+
+    def "writes the exceptions of log events as their stack trace"() {
+        given:
+        def failure = new PluginFailure("broken")
+        writer.onOutput(new LogEvent(tenAm, 'category', LogLevel.ERROR, 'message', failure))
+        writer.close()
+
+        when:
+        def events = read()
+
+        then:
+        events.size() == 1
+        def event = events[0] as LogEvent
+        event.throwable == null
+        event.message.readLines() == ['message'] + stackTraceOf(failure)
+
+        and:
+        render(LogLevel.LIFECYCLE)[1] == ['message'] + stackTraceOf(failure)
+    }
+
+    def "fails on a stream which is not a binary log"() {
+        when:
+        new BinaryLogReader(new ByteArrayInputStream("some text".bytes))
+
+        then:
+        def e = thrown(IOException)
+        e.message == 'Not a binary build log.'
+    }
+
+    def "renders the log at the requested log level"() {
+        given:
+        writer.onOutput(new LogLevelChangeEvent(LogLevel.INFO))
+        writer.onOutput(event('info', LogLevel.INFO))
+        writer.onOutput(event('lifecycle', LogLevel.LIFECYCLE))
+        writer.onOutput(event('error', LogLevel.ERROR))
+        writer.close()
+
+        expect:
+        render(LogLevel.LIFECYCLE) == [['lifecycle'], ['error']]
+        render(LogLevel.INFO) == [['info', 'lifecycle'], ['error']]
+        render(LogLevel.ERROR) == [[], ['error']]
+    }
+
+    def "renders the log finer than the console when captured below the log level of the build"() {
+        given:
+        def console = new ByteArrayOutputStream()
+        def renderer = new OutputEventRenderer(Time.clock(), Stub(GlobalUserInputReceiver))
+        renderer.configure(LogLevel.LIFECYCLE)
+        renderer.addPlainConsole(console, console)
+        renderer.addCapturingOutputEventListener(writer, LogLevel.DEBUG)
+
+        when:
+        renderer.onOutput(event('debug', LogLevel.DEBUG))
+        renderer.onOutput(event('lifecycle', LogLevel.LIFECYCLE))
+        renderer.removeCapturingOutputEventListener(writer)
+        renderer.onOutput(new EndOutputEvent())
+        writer.close()
+
+        then:
+        console.toString().readLines() == ['lifecycle']
+        render(LogLevel.LIFECYCLE) == [['lifecycle'], []]
+        render(LogLevel.DEBUG)[0].size() == 2
+        render(LogLevel.DEBUG)[0][0].endsWith('[DEBUG] [category] debug')
+    }
+
+    private static List<String> stackTraceOf(Throwable failure) {
+        def stackTrace = new StringWriter()
+        failure.printStackTrace(new PrintWriter(stackTrace))
+        return stackTrace.toString().readLines()
+    }
+
+    private List<OutputEvent> read(byte[] bytes = output.toByteArray()) {
+        def events = []
+        def reader = new BinaryLogReader(new ByteArrayInputStream(bytes))
+        reader.readAll({ events << it } as OutputEventListener)
+        reader.close()
+        return events
+    }
+
+    private List<List<String>> render(LogLevel logLevel) {
+        def stdout = new ByteArrayOutputStream()
+        def stderr = new ByteArrayOutputStream()
+        new BinaryLogRenderer(logLevel).render(new ByteArrayInputStream(output.toByteArray()), stdout, stderr)
+        return [stdout.toString().readLines(), stderr.toString().readLines()]
+    }
+
+    /**
+     * An exception whose class is not available when the log is rendered by another process.
+     */
+    static class PluginFailure extends RuntimeException {
+        PluginFailure(String message) {
+            super(message)
+        }
+    }
+}
@@ -230,6 +230,75 @@ class OutputEventRendererTest extends OutputSpecification {
         0 * listener._
     }
 
+    def forwardsOutputEventsBelowTheLogLevelToCapturingListener() {
+        OutputEventListener listener = Mock()
+        OutputEventListener consoleListener = Mock()
+        LogEvent ignored = event('ignored', LogLevel.DEBUG)
+        LogEvent captured = event('captured', LogLevel.INFO)
+        LogEvent rendered = event('rendered', LogLevel.LIFECYCLE)
+        def start = start('start')
+
+        when:
+        renderer.configure(LogLevel.LIFECYCLE)
+        renderer.addOutputEventListener(consoleListener)
+        renderer.addCapturingOutputEventListener(listener, LogLevel.INFO)
+        renderer.onOutput(ignored)
+        renderer.onOutput(captured)
+        renderer.onOutput(rendered)
+        renderer.onOutput(start)
+        renderer.configure(LogLevel.QUIET)
+
+        then:
+        1 * listener.onOutput({ it instanceof LogLevelChangeEvent && it.newLogLevel == LogLevel.INFO })
+        1 * listener.onOutput(captured)
+        1 * listener.onOutput(rendered)
+        1 * listener.onOutput(start)
+        0 * listener._
+
+        and:
+        1 * consoleListener.onOutput(rendered)
+        1 * consoleListener.onOutput(start)
+        1 * consoleListener.onOutput({ it instanceof LogLevelChangeEvent && it.newLogLevel == LogLevel.QUIET })
+        0 * consoleListener.onOutput(captured)
+        0 * consoleListener.onOutput(ignored)
+    }
+
+    def capturingListenersFilterAtTheirOwnLevel() {
+        OutputEventListener info = Mock()
+        OutputEventListener debug = Mock()
+        LogEvent debugEvent = event('debug', LogLevel.DEBUG)
+        LogEvent infoEvent = event('info', LogLevel.INFO)
+
+        when:
+        renderer.configure(LogLevel.LIFECYCLE)
+        renderer.addCapturingOutputEventListener(info, LogLevel.INFO)
+        renderer.addCapturingOutputEventListener(debug, LogLevel.DEBUG)
+        renderer.onOutput(debugEvent)
+        renderer.onOutput(infoEvent)
+
+        then:
+        1 * info.onOutput(infoEvent)
+        0 * info.onOutput(debugEvent)
+        1 * debug.onOutput(debugEvent)
+        1 * debug.onOutput(infoEvent)
+    }
+
+    def doesNotForwardOutputEventsToRemovedCapturingListener() {
+        OutputEventListener listener = Mock()
+        LogEvent event = event('message', LogLevel.INFO)
+
+        when:
+        renderer.configure(LogLevel.LIFECYCLE)
+        renderer.addCapturingOutputEventListener(listener, LogLevel.DEBUG)
+        renderer.removeCapturingOutputEventListener(listener)
+        renderer.onOutput(event)
+
+        then:
+        1 * listener.onOutput({ it instanceof LogLevelChangeEvent && it.newLogLevel == LogLevel.DEBUG })
+        1 * listener.onOutput({ it instanceof EndOutputEvent })
+        0 * listener._
+    }
+
     def restoresLogLevelWhenChangedSinceSnapshotWasTaken() {
         def listener = new TestListener()
 
@@ -19,6 +19,8 @@ package org.gradle.internal.logging.slf4j
 import org.gradle.internal.time.Time
 import spock.lang.Specification
 
+import static org.gradle.api.logging.LogLevel.DEBUG
+import static org.gradle.api.logging.LogLevel.INFO
 import static org.gradle.api.logging.LogLevel.LIFECYCLE
 import static org.slf4j.Logger.ROOT_LOGGER_NAME
 
@@ -58,4 +60,36 @@ class OutputEventListenerBackedLoggerContextTest extends Specification {
         IllegalArgumentException e = thrown()
         e.message == "Global log level cannot be set to null"
     }
+
+    def "produces events down to the capture level without changing the global level"() {
+        when:
+        context.captureLevel = DEBUG
+
+        then:
+        context.level == LIFECYCLE
+        context.enabledLevel == DEBUG
+        logger("foo").debugEnabled
+
+        when:
+        context.level = INFO
+
+        then:
+        context.enabledLevel == DEBUG
+
+        when:
+        context.captureLevel = null
+
+        then:
+        context.enabledLevel == INFO
+        !logger("foo").debugEnabled
+    }
+
+    def "capture level coarser than the global level has no effect"() {
+        when:
+        context.level = DEBUG
+        context.captureLevel = LIFECYCLE
+
+        then:
+        context.enabledLevel == DEBUG
+    }
 }
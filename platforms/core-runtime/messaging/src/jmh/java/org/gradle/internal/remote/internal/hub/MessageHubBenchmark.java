@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.hub;
+
+import org.gradle.api.Action;
+import org.gradle.internal.Cast;
+import org.gradle.internal.concurrent.CompositeStoppable;
+import org.gradle.internal.concurrent.DefaultExecutorFactory;
+import org.gradle.internal.dispatch.Dispatch;
+import org.gradle.internal.id.UUIDGenerator;
+import org.gradle.internal.remote.ConnectionAcceptor;
+import org.gradle.internal.remote.internal.ConnectCompletion;
+import org.gradle.internal.remote.internal.RemoteConnection;
+import org.gradle.internal.remote.internal.hub.protocol.InterHubMessage;
+import org.gradle.internal.remote.internal.inet.InetAddressFactory;
+import org.gradle.internal.remote.internal.inet.TcpIncomingConnector;
+import org.gradle.internal.remote.internal.inet.TcpOutgoingConnector;
+import org.gradle.internal.serialize.BaseSerializerFactory;
+import org.gradle.internal.serialize.Serializer;
+import org.gradle.internal.serialize.Serializers;
+import org.gradle.internal.serialize.StatefulSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the number of events per second sent from one message hub to another over a socket,
+ * as when a worker streams test events or log output to the build process.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class MessageHubBenchmark {
+    private static final int EVENTS = 10000;
+    private static final String EVENT = "Test event for org.gradle.SomeTest.someTestMethod()";
+
+    private final Semaphore received = new Semaphore(0);
+    private DefaultExecutorFactory executorFactory;
+    private MessageHub sender;
+    private MessageHub receiver;
+    private ConnectionAcceptor acceptor;
+    private RemoteConnection<InterHubMessage> senderConnection;
+    private RemoteConnection<InterHubMessage> receiverConnection;
+    private Dispatch<String> events;
+
+    @Setup
+    public void setUp() throws Exception {
+        executorFactory = new DefaultExecutorFactory();
+        final StatefulSerializer<InterHubMessage> serializer = new InterHubMessageSerializer(Serializers.stateful(Cast.<Serializer<Object>>uncheckedNonnullCast(BaseSerializerFactory.STRING_SERIALIZER)));
+        receiver = new MessageHub("receiver", executorFactory, new PrintingErrorHandler());
+        receiver.addHandler("events", new Dispatch<String>() {
+            @Override
+            public void dispatch(String message) {
+                received.release();
+            }
+        });
+        final CountDownLatch connected = new CountDownLatch(1);
+        acceptor = new TcpIncomingConnector(executorFactory, new InetAddressFactory(), new UUIDGenerator()).accept(new Action<ConnectCompletion>() {
+            @Override
+            public void execute(ConnectCompletion completion) {
+                receiverConnection = completion.create(serializer);
+                receiver.addConnection(receiverConnection);
+                connected.countDown();
+            }
+        }, false);
+        senderConnection = new TcpOutgoingConnector().connect(acceptor.getAddress()).create(serializer);
+        sender = new MessageHub("sender", executorFactory, new PrintingErrorHandler());
+        sender.addConnection(senderConnection);
+        events = sender.getOutgoing("events", String.class);
+        connected.await(10, TimeUnit.SECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        CompositeStoppable.stoppable(sender, senderConnection, receiver, receiverConnection, acceptor, executorFactory).stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void streamEvents() throws InterruptedException {
+        for (int i = 0; i < EVENTS; i++) {
+            events.dispatch(EVENT);
+        }
+        received.acquire(EVENTS);
+    }
+
+    private static class PrintingErrorHandler implements Action<Throwable> {
+        @Override
+        public void execute(Throwable throwable) {
+            throwable.printStackTrace();
+        }
+    }
+}
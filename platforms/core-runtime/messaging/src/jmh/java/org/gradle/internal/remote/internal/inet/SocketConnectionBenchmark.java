@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.inet;
+
+import org.gradle.api.Action;
+import org.gradle.internal.concurrent.CompositeStoppable;
+import org.gradle.internal.concurrent.DefaultExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
+import org.gradle.internal.id.UUIDGenerator;
+import org.gradle.internal.remote.ConnectionAcceptor;
+import org.gradle.internal.remote.internal.ConnectCompletion;
+import org.gradle.internal.remote.internal.IncomingConnector;
+import org.gradle.internal.remote.internal.RemoteConnection;
+import org.gradle.internal.serialize.BaseSerializerFactory;
+import org.gradle.internal.serialize.Serializers;
+import org.gradle.internal.serialize.StatefulSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loopback TCP with Unix domain sockets for the connections between Gradle processes.
+ *
+ * {@link #roundTrip()} measures the latency of a request answered by the peer, {@link #stream()} the throughput
+ * of messages sent to the peer, as done when a worker streams test events or log output to the build process.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SocketConnectionBenchmark {
+    private static final int STREAM_SIZE = 1000;
+    private static final byte NO_REPLY = 0;
+    private static final byte REPLY = 1;
+
+    @Param({"tcp", "unix"})
+    String transport;
+
+    @Param({"64", "4096"})
+    int messageSize;
+
+    private final StatefulSerializer<byte[]> serializer = Serializers.stateful(BaseSerializerFactory.BYTE_ARRAY_SERIALIZER);
+    private DefaultExecutorFactory executorFactory;
+    private ManagedExecutor peerExecutor;
+    private ConnectionAcceptor acceptor;
+    private RemoteConnection<byte[]> connection;
+    private byte[] requestMessage;
+    private byte[] streamMessage;
+
+    @Setup
+    public void setUp() throws Exception {
+        executorFactory = new DefaultExecutorFactory();
+        peerExecutor = executorFactory.create("Benchmark peer");
+        IncomingConnector incomingConnector = new TcpIncomingConnector(executorFactory, new InetAddressFactory(), new UUIDGenerator());
+        if (transport.equals("unix")) {
+            if (UnixDomainSockets.current() == null) {
+                throw new IllegalStateException("Unix domain sockets are not available.");
+            }
+            incomingConnector = new UnixDomainSocketIncomingConnector(incomingConnector, executorFactory);
+        }
+
+        final CountDownLatch connected = new CountDownLatch(1);
+        acceptor = incomingConnector.accept(new Action<ConnectCompletion>() {
+            @Override
+            public void execute(ConnectCompletion completion) {
+                final RemoteConnection<byte[]> peer = completion.create(serializer);
+                peerExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        answer(peer);
+                    }
+                });
+                connected.countDown();
+            }
+        }, false);
+        connection = new UnixDomainSocketOutgoingConnector(new TcpOutgoingConnector()).connect(acceptor.getAddress()).create(serializer);
+        connected.await(10, TimeUnit.SECONDS);
+
+        requestMessage = new byte[messageSize];
+        requestMessage[0] = REPLY;
+        streamMessage = new byte[messageSize];
+        streamMessage[0] = NO_REPLY;
+    }
+
+    @TearDown
+    public void tearDown() {
+        CompositeStoppable.stoppable(connection, acceptor, peerExecutor, executorFactory).stop();
+    }
+
+    @Benchmark
+    public byte[] roundTrip() {
+        connection.dispatch(requestMessage);
+        connection.flush();
+        return connection.receive();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_SIZE)
+    public byte[] stream() {
+        for (int i = 1; i < STREAM_SIZE; i++) {
+            connection.dispatch(streamMessage);
+        }
+        return roundTrip();
+    }
+
+    private static void answer(RemoteConnection<byte[]> peer) {
+        try {
+            byte[] message;
+            while ((message = peer.receive()) != null) {
+                if (message[0] == REPLY) {
+                    peer.dispatch(message);
+                    peer.flush();
+                }
+            }
+        } finally {
+            peer.stop();
+        }
+    }
+}
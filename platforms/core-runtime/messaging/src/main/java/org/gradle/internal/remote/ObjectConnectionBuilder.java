@@ -15,8 +15,11 @@
  */
 package org.gradle.internal.remote;
 
+import org.gradle.api.Action;
 import org.gradle.internal.serialize.SerializerRegistry;
 
+import java.lang.reflect.Method;
+
 public interface ObjectConnectionBuilder {
     /**
      * Creates a transmitter for outgoing messages on the given type. The returned object is thread-safe.
@@ -54,4 +57,9 @@ public interface ObjectConnectionBuilder {
      * Adds a set of specified serializers for incoming and outgoing method parameters. For any types that are not known to any registry added using this method, then Java serialization is used.
      */
     void useParameterSerializers(SerializerRegistry serializers);
+
+    /**
+     * Notifies the given action, when the connection is established, of each method of the incoming and outgoing types whose parameters are serialized using Java serialization.
+     */
+    void reportJavaSerializedParameters(Action<? super Method> reporter);
 }
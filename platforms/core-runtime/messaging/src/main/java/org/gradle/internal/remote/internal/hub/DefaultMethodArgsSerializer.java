@@ -17,15 +17,49 @@
 package org.gradle.internal.remote.internal.hub;
 
 import org.gradle.internal.Cast;
+import org.gradle.internal.serialize.BaseSerializerFactory;
 import org.gradle.internal.serialize.Decoder;
 import org.gradle.internal.serialize.Encoder;
+import org.gradle.internal.serialize.NullSafeStringSerializer;
 import org.gradle.internal.serialize.Serializer;
 import org.gradle.internal.serialize.SerializerRegistry;
 
+import javax.annotation.Nullable;
+import java.io.File;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Serializes method arguments using the serializers of the given registries, or of a few built-in types, and using the given default serializer
+ * for any argument types that are not known.
+ */
 class DefaultMethodArgsSerializer implements MethodArgsSerializer {
     private static final Object[] ZERO_ARGS = new Object[0];
+    private static final Map<Class<?>, Serializer<?>> BUILT_IN_SERIALIZERS = new HashMap<Class<?>, Serializer<?>>();
+
+    static {
+        BUILT_IN_SERIALIZERS.put(boolean.class, BaseSerializerFactory.BOOLEAN_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(byte.class, BaseSerializerFactory.BYTE_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(char.class, BaseSerializerFactory.CHAR_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(short.class, BaseSerializerFactory.SHORT_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(int.class, BaseSerializerFactory.INTEGER_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(long.class, BaseSerializerFactory.LONG_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(float.class, BaseSerializerFactory.FLOAT_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(double.class, BaseSerializerFactory.DOUBLE_SERIALIZER);
+        BUILT_IN_SERIALIZERS.put(Boolean.class, new NullableSerializer<Boolean>(BaseSerializerFactory.BOOLEAN_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(Byte.class, new NullableSerializer<Byte>(BaseSerializerFactory.BYTE_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(Character.class, new NullableSerializer<Character>(BaseSerializerFactory.CHAR_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(Short.class, new NullableSerializer<Short>(BaseSerializerFactory.SHORT_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(Integer.class, new NullableSerializer<Integer>(BaseSerializerFactory.INTEGER_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(Long.class, new NullableSerializer<Long>(BaseSerializerFactory.LONG_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(Float.class, new NullableSerializer<Float>(BaseSerializerFactory.FLOAT_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(Double.class, new NullableSerializer<Double>(BaseSerializerFactory.DOUBLE_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(String.class, new NullSafeStringSerializer());
+        BUILT_IN_SERIALIZERS.put(File.class, new NullableSerializer<File>(BaseSerializerFactory.FILE_SERIALIZER));
+        BUILT_IN_SERIALIZERS.put(byte[].class, new NullableSerializer<byte[]>(BaseSerializerFactory.BYTE_ARRAY_SERIALIZER));
+    }
+
     private final List<SerializerRegistry> serializerRegistries;
     private final MethodArgsSerializer defaultArgsSerializer;
 
@@ -39,25 +73,58 @@ public Serializer<Object[]> forTypes(Class<?>[] types) {
         if (types.length == 0) {
             return new EmptyArraySerializer();
         }
-        SerializerRegistry selected = null;
-        for (SerializerRegistry serializerRegistry : serializerRegistries) {
-            if (serializerRegistry.canSerialize(types[0])) {
-                selected = serializerRegistry;
-                break;
-            }
-        }
-        if (selected == null) {
+        SerializerRegistry selected = registryFor(types[0]);
+        if (selected == null && !isBuiltIn(types)) {
             return defaultArgsSerializer.forTypes(types);
         }
 
         final Serializer<Object>[] serializers = Cast.uncheckedNonnullCast(new Serializer<?>[types.length]);
         for (int i = 0; i < types.length; i++) {
             Class<?> type = types[i];
-            serializers[i] = Cast.uncheckedNonnullCast(selected.build(type));
+            if (selected != null) {
+                // The registry that knows about the first argument is used for all of them
+                serializers[i] = Cast.uncheckedNonnullCast(selected.build(type));
+            } else {
+                serializers[i] = Cast.uncheckedNonnullCast(builtInSerializerFor(type));
+            }
         }
         return new ArraySerializer(serializers);
     }
 
+    /**
+     * Returns true when arguments of the given types are serialized by the default serializer.
+     */
+    boolean usesDefaultSerializer(Class<?>[] types) {
+        return types.length > 0 && registryFor(types[0]) == null && !isBuiltIn(types);
+    }
+
+    @Nullable
+    private SerializerRegistry registryFor(Class<?> type) {
+        for (SerializerRegistry serializerRegistry : serializerRegistries) {
+            if (serializerRegistry.canSerialize(type)) {
+                return serializerRegistry;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBuiltIn(Class<?>[] types) {
+        for (Class<?> type : types) {
+            if (builtInSerializerFor(type) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Serializer<?> builtInSerializerFor(Class<?> type) {
+        if (type.isEnum()) {
+            return new NullableSerializer<Object>(new BaseSerializerFactory().getSerializerFor(Cast.<Class<Object>>uncheckedNonnullCast(type)));
+        }
+        return BUILT_IN_SERIALIZERS.get(type);
+    }
+
     private static class ArraySerializer implements Serializer<Object[]> {
         private final Serializer<Object>[] serializers;
 
@@ -92,4 +159,26 @@ public Object[] read(Decoder decoder) {
         public void write(Encoder encoder, Object[] value) {
         }
     }
+
+    private static class NullableSerializer<T> implements Serializer<T> {
+        private final Serializer<T> serializer;
+
+        NullableSerializer(Serializer<T> serializer) {
+            this.serializer = serializer;
+        }
+
+        @Nullable
+        @Override
+        public T read(Decoder decoder) throws Exception {
+            return decoder.readBoolean() ? serializer.read(decoder) : null;
+        }
+
+        @Override
+        public void write(Encoder encoder, @Nullable T value) throws Exception {
+            encoder.writeBoolean(value != null);
+            if (value != null) {
+                serializer.write(encoder, value);
+            }
+        }
+    }
 }
@@ -31,6 +31,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -46,6 +47,16 @@
 public class MessageHub implements AsyncStoppable {
     private enum State {Running, Stopping, Stopped}
 
+    /**
+     * How long messages written to a busy connection may wait for further messages before being flushed.
+     */
+    private static final long MAX_BATCH_DELAY_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    /**
+     * How many messages may be written to a busy connection before being flushed.
+     */
+    private static final int MAX_BATCH_SIZE = 1024;
+
     private static final Discard DISCARD = new Discard();
     private final ManagedExecutor workers;
     private final String displayName;
@@ -315,14 +326,32 @@ private ConnectionDispatch(ConnectionState connectionState) {
         public void run() {
             try {
                 List<InterHubMessage> messages = new ArrayList<InterHubMessage>();
+                int unflushed = 0;
+                long flushDeadline = 0;
                 try {
                     while (true) {
                         lock.lock();
                         try {
-                            queue.take(messages);
+                            if (unflushed == 0) {
+                                queue.take(messages);
+                            } else {
+                                queue.poll(messages, flushDeadline - System.nanoTime());
+                            }
                         } finally {
                             lock.unlock();
                         }
+                        if (messages.isEmpty()) {
+                            // No further message was queued in time
+                            connection.flush();
+                            unflushed = 0;
+                            continue;
+                        }
+                        // Messages queue up while the previous ones are written, so several messages mean a busy stream
+                        // where waiting a little for further messages saves flushes
+                        boolean busy = unflushed > 0 || messages.size() > 1;
+                        if (unflushed == 0) {
+                            flushDeadline = System.nanoTime() + MAX_BATCH_DELAY_NANOS;
+                        }
                         for (InterHubMessage message : messages) {
                             try {
                                 connection.dispatch(message);
@@ -334,8 +363,12 @@ public void run() {
                                 return;
                             }
                         }
-                        connection.flush();
+                        unflushed += messages.size();
                         messages.clear();
+                        if (!busy || unflushed >= MAX_BATCH_SIZE || System.nanoTime() - flushDeadline >= 0) {
+                            connection.flush();
+                            unflushed = 0;
+                        }
                     }
                 } finally {
                     lock.lock();
@@ -40,8 +40,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -54,6 +56,8 @@ public class MessageHubBackedObjectConnection implements ObjectConnection {
     //    private ClassLoader methodParamClassLoader;
     private List<SerializerRegistry> paramSerializers = new ArrayList<SerializerRegistry>();
     private Set<ClassLoader> methodParamClassLoaders = new HashSet<ClassLoader>();
+    private final Set<Class<?>> protocolTypes = new LinkedHashSet<Class<?>>();
+    private final List<Action<? super Method>> javaSerializedParametersReporters = new ArrayList<Action<? super Method>>();
     private volatile boolean aborted;
 
     public MessageHubBackedObjectConnection(ExecutorFactory executorFactory, ConnectCompletion completion) {
@@ -96,6 +100,7 @@ public <T> void addIncoming(Class<T> type, final T instance) {
         if (type.getClassLoader() != getClass().getClassLoader()) {
             methodParamClassLoaders.add(type.getClassLoader());
         }
+        protocolTypes.add(type);
         Dispatch<MethodInvocation> handler = new DispatchWrapper<T>(instance);
         hub.addHandler(type.getName(), handler);
     }
@@ -106,6 +111,7 @@ public <T> T addOutgoing(Class<T> type) {
             throw new GradleException("Cannot add outgoing message transmitter after connection established.");
         }
         methodParamClassLoaders.add(type.getClassLoader());
+        protocolTypes.add(type);
         ProxyDispatchAdapter<T> adapter = new ProxyDispatchAdapter<T>(hub.getOutgoing(type.getName(), MethodInvocation.class), type, ThreadSafe.class);
         return adapter.getSource();
     }
@@ -115,6 +121,11 @@ public void useParameterSerializers(SerializerRegistry serializer) {
         this.paramSerializers.add(serializer);
     }
 
+    @Override
+    public void reportJavaSerializedParameters(Action<? super Method> reporter) {
+        javaSerializedParametersReporters.add(reporter);
+    }
+
     @Override
     public void connect() {
         ClassLoader methodParamClassLoader;
@@ -125,7 +136,8 @@ public void connect() {
         } else {
             methodParamClassLoader = new CachingClassLoader(new MultiParentClassLoader(methodParamClassLoaders));
         }
-        MethodArgsSerializer argsSerializer = new DefaultMethodArgsSerializer(paramSerializers, new JavaSerializationBackedMethodArgsSerializer(methodParamClassLoader));
+        DefaultMethodArgsSerializer argsSerializer = new DefaultMethodArgsSerializer(paramSerializers, new JavaSerializationBackedMethodArgsSerializer(methodParamClassLoader));
+        reportJavaSerializedMethods(argsSerializer);
 
         StatefulSerializer<InterHubMessage> serializer = new InterHubMessageSerializer(
             new TypeSafeSerializer<MethodInvocation>(MethodInvocation.class,
@@ -139,6 +151,21 @@ public void connect() {
         completion = null;
     }
 
+    private void reportJavaSerializedMethods(DefaultMethodArgsSerializer argsSerializer) {
+        if (javaSerializedParametersReporters.isEmpty()) {
+            return;
+        }
+        for (Class<?> type : protocolTypes) {
+            for (Method method : type.getMethods()) {
+                if (argsSerializer.usesDefaultSerializer(method.getParameterTypes())) {
+                    for (Action<? super Method> reporter : javaSerializedParametersReporters) {
+                        reporter.execute(method);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public void requestStop() {
         hub.requestStop();
@@ -56,6 +56,25 @@ public void take(Collection<InterHubMessage> drainTo) {
         queue.clear();
     }
 
+    /**
+     * Like {@link #take(Collection)}, but gives up waiting for messages after the given timeout.
+     */
+    public void poll(Collection<InterHubMessage> drainTo, long timeoutNanos) {
+        if (queue.isEmpty()) {
+            owner.empty(this);
+            long remaining = timeoutNanos;
+            while (queue.isEmpty() && remaining > 0) {
+                try {
+                    remaining = condition.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    throw UncheckedException.throwAsUncheckedException(e);
+                }
+            }
+        }
+        drainTo.addAll(queue);
+        queue.clear();
+    }
+
     public void stop() {
         owner.stopped(this);
     }
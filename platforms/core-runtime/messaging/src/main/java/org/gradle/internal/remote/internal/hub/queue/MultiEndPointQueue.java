@@ -49,7 +49,10 @@ public void dispatch(InterHubMessage message) {
     }
 
     void empty(EndPointQueue endPointQueue) {
-        waiting.add(endPointQueue);
+        // An endpoint that stopped polling before receiving a message is still waiting
+        if (!waiting.contains(endPointQueue)) {
+            waiting.add(endPointQueue);
+        }
         flush();
     }
 
@@ -18,6 +18,7 @@
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 
+import javax.annotation.Nullable;
 import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,15 +28,24 @@ public class MultiChoiceAddress implements InetEndpoint {
     private final UUID canonicalAddress;
     private final int port;
     private final List<InetAddress> candidates;
+    private final String unixSocketPath;
 
     public MultiChoiceAddress(UUID canonicalAddress, int port, List<InetAddress> candidates) {
+        this(canonicalAddress, port, candidates, null);
+    }
+
+    public MultiChoiceAddress(UUID canonicalAddress, int port, List<InetAddress> candidates, @Nullable String unixSocketPath) {
         this.canonicalAddress = canonicalAddress;
         this.port = port;
         this.candidates = new ArrayList<InetAddress>(candidates);
+        this.unixSocketPath = unixSocketPath;
     }
 
     @Override
     public String getDisplayName() {
+        if (unixSocketPath != null) {
+            return "[" + canonicalAddress + " port:" + port + ", addresses:" + candidates + ", socket:" + unixSocketPath + "]";
+        }
         return "[" + canonicalAddress + " port:" + port + ", addresses:" + candidates + "]";
     }
 
@@ -53,6 +63,14 @@ public int getPort() {
         return port;
     }
 
+    /**
+     * The path of the Unix domain socket the server also listens on, to be preferred over the TCP candidates when the client supports it.
+     */
+    @Nullable
+    public String getUnixSocketPath() {
+        return unixSocketPath;
+    }
+
     @Override
     public String toString() {
         return getDisplayName();
@@ -67,15 +85,20 @@ public boolean equals(Object o) {
             return false;
         }
         MultiChoiceAddress other = (MultiChoiceAddress) o;
-        return other.canonicalAddress.equals(canonicalAddress) && port == other.port && candidates.equals(other.candidates);
+        return other.canonicalAddress.equals(canonicalAddress) && port == other.port && candidates.equals(other.candidates)
+            && (unixSocketPath == null ? other.unixSocketPath == null : unixSocketPath.equals(other.unixSocketPath));
     }
 
     @Override
     public int hashCode() {
-        return canonicalAddress.hashCode();
+        return 31 * canonicalAddress.hashCode() + (unixSocketPath == null ? 0 : unixSocketPath.hashCode());
     }
 
     public MultiChoiceAddress addAddresses(Iterable<InetAddress> candidates) {
-        return new MultiChoiceAddress(canonicalAddress, port, Lists.newArrayList(Iterables.concat(candidates, this.candidates)));
+        return new MultiChoiceAddress(canonicalAddress, port, Lists.newArrayList(Iterables.concat(candidates, this.candidates)), unixSocketPath);
+    }
+
+    public MultiChoiceAddress withUnixSocketPath(String unixSocketPath) {
+        return new MultiChoiceAddress(canonicalAddress, port, candidates, unixSocketPath);
     }
 }
@@ -38,6 +38,7 @@
 import java.io.ObjectStreamException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.SelectionKey;
@@ -47,8 +48,8 @@
 public class SocketConnection<T> implements RemoteConnection<T> {
     private static final Logger LOGGER = LoggerFactory.getLogger(SocketConnection.class);
     private final SocketChannel socket;
-    private final SocketInetAddress localAddress;
-    private final SocketInetAddress remoteAddress;
+    private final Object localAddress;
+    private final Object remoteAddress;
     private final ObjectWriter<T> objectWriter;
     private final ObjectReader<T> objectReader;
     private final InputStream instr;
@@ -63,10 +64,12 @@ public SocketConnection(SocketChannel socket, MessageSerializer streamSerializer
         } catch (IOException e) {
             throw UncheckedException.throwAsUncheckedException(e);
         }
-        InetSocketAddress localSocketAddress = (InetSocketAddress) socket.socket().getLocalSocketAddress();
-        localAddress = new SocketInetAddress(localSocketAddress.getAddress(), localSocketAddress.getPort());
-        InetSocketAddress remoteSocketAddress = (InetSocketAddress) socket.socket().getRemoteSocketAddress();
-        remoteAddress = new SocketInetAddress(remoteSocketAddress.getAddress(), remoteSocketAddress.getPort());
+        try {
+            localAddress = describe(socket.getLocalAddress());
+            remoteAddress = describe(socket.getRemoteAddress());
+        } catch (IOException e) {
+            throw UncheckedException.throwAsUncheckedException(e);
+        }
         objectReader = messageSerializer.newReader(streamSerializer.newDecoder(instr));
         encoder = streamSerializer.newEncoder(outstr);
         objectWriter = messageSerializer.newWriter(encoder);
@@ -77,6 +80,17 @@ public String toString() {
         return "socket connection from " + localAddress + " to " + remoteAddress;
     }
 
+    /**
+     * Describes the address of an end of the connection, which is not an {@link InetSocketAddress} for a Unix domain socket.
+     */
+    private static Object describe(SocketAddress address) {
+        if (address instanceof InetSocketAddress) {
+            InetSocketAddress inetSocketAddress = (InetSocketAddress) address;
+            return new SocketInetAddress(inetSocketAddress.getAddress(), inetSocketAddress.getPort());
+        }
+        return address;
+    }
+
     @Override
     public T receive() throws MessageIOException {
         try {
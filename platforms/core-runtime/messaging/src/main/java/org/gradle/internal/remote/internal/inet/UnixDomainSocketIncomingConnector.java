@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.inet;
+
+import org.gradle.api.Action;
+import org.gradle.internal.concurrent.CompositeStoppable;
+import org.gradle.internal.concurrent.ExecutorFactory;
+import org.gradle.internal.concurrent.ManagedExecutor;
+import org.gradle.internal.remote.Address;
+import org.gradle.internal.remote.ConnectionAcceptor;
+import org.gradle.internal.remote.internal.ConnectCompletion;
+import org.gradle.internal.remote.internal.IncomingConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Listens on a Unix domain socket in addition to the TCP port of the given connector, when Unix domain sockets are available.
+ *
+ * <p>The path of the socket is added to the {@link MultiChoiceAddress} of the TCP connector, so clients that cannot use
+ * Unix domain sockets still connect over TCP. The socket is created in a directory only accessible to the current user.</p>
+ *
+ * <p>The socket is deleted when the acceptor is stopped. Sockets left behind by processes that did not stop their acceptor
+ * are deleted the first time this connector accepts connections. The process listening on a socket holds a lock on a file
+ * next to it, which the operating system releases when the process exits, so stale sockets are found without connecting to them.</p>
+ */
+public class UnixDomainSocketIncomingConnector implements IncomingConnector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnixDomainSocketIncomingConnector.class);
+    private static final String SOCKET_DIRECTORY_PREFIX = "gradle-socket-";
+    private static final String SOCKET_FILE_NAME = "socket";
+    private static final String LOCK_FILE_NAME = "lock";
+    /**
+     * How long an unlocked socket directory is kept, so directories of processes that are about to lock them are not deleted.
+     */
+    private static final long UNLOCKED_SOCKET_DIRECTORY_RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private final IncomingConnector tcpConnector;
+    private final ExecutorFactory executorFactory;
+    private final AtomicBoolean staleSocketsDeleted = new AtomicBoolean();
+
+    public UnixDomainSocketIncomingConnector(IncomingConnector tcpConnector, ExecutorFactory executorFactory) {
+        this.tcpConnector = tcpConnector;
+        this.executorFactory = executorFactory;
+    }
+
+    @Override
+    public ConnectionAcceptor accept(Action<ConnectCompletion> action, boolean allowRemote) {
+        UnixDomainSockets sockets = UnixDomainSockets.current();
+        if (sockets == null || allowRemote) {
+            return tcpConnector.accept(action, allowRemote);
+        }
+
+        // Connections may now be accepted concurrently from both sockets
+        Action<ConnectCompletion> synchronizedAction = new SynchronizedAction(action);
+        final ConnectionAcceptor tcpAcceptor = tcpConnector.accept(synchronizedAction, false);
+        if (!(tcpAcceptor.getAddress() instanceof MultiChoiceAddress)) {
+            return tcpAcceptor;
+        }
+
+        if (staleSocketsDeleted.compareAndSet(false, true)) {
+            deleteStaleSockets();
+        }
+
+        final File socketFile;
+        final FileChannel lockFile;
+        final ServerSocketChannel serverSocket;
+        try {
+            File directory = Files.createTempDirectory(SOCKET_DIRECTORY_PREFIX, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"))).toFile();
+            socketFile = new File(directory, SOCKET_FILE_NAME);
+            if (!UnixDomainSockets.isSupportedPath(socketFile.getPath())) {
+                LOGGER.debug("Path {} is too long for a Unix domain socket, only listening on TCP.", socketFile);
+                delete(socketFile);
+                return tcpAcceptor;
+            }
+            lockFile = FileChannel.open(new File(directory, LOCK_FILE_NAME).toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            try {
+                lockFile.lock();
+                serverSocket = sockets.bind(socketFile.getPath());
+            } catch (IOException | RuntimeException e) {
+                CompositeStoppable.stoppable(lockFile).stop();
+                delete(socketFile);
+                throw e;
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not listen on a Unix domain socket, only listening on TCP.", e);
+            return tcpAcceptor;
+        } catch (UnsupportedOperationException e) {
+            LOGGER.debug("Could not listen on a Unix domain socket, only listening on TCP.", e);
+            return tcpAcceptor;
+        }
+
+        final Address address = ((MultiChoiceAddress) tcpAcceptor.getAddress()).withUnixSocketPath(socketFile.getPath());
+        LOGGER.debug("Listening on {}.", address);
+
+        final ManagedExecutor executor = executorFactory.create("Incoming local Unix domain socket connector on " + socketFile);
+        executor.execute(new Receiver(serverSocket, synchronizedAction));
+
+        return new ConnectionAcceptor() {
+            @Override
+            public Address getAddress() {
+                return address;
+            }
+
+            @Override
+            public void requestStop() {
+                CompositeStoppable.stoppable(serverSocket).stop();
+                tcpAcceptor.requestStop();
+            }
+
+            @Override
+            public void stop() {
+                requestStop();
+                CompositeStoppable.stoppable(executor, tcpAcceptor).stop();
+                delete(socketFile);
+                CompositeStoppable.stoppable(lockFile).stop();
+            }
+        };
+    }
+
+    /**
+     * Deletes the socket directories of the current user whose process has exited.
+     */
+    private static void deleteStaleSockets() {
+        File[] directories = new File(System.getProperty("java.io.tmpdir")).listFiles();
+        if (directories == null) {
+            return;
+        }
+        for (File directory : directories) {
+            if (!directory.getName().startsWith(SOCKET_DIRECTORY_PREFIX) || !directory.isDirectory() || !Files.isWritable(directory.toPath()) || !isExpired(directory)) {
+                continue;
+            }
+            File socketFile = new File(directory, SOCKET_FILE_NAME);
+            File lockFile = new File(directory, LOCK_FILE_NAME);
+            if (!lockFile.exists()) {
+                // The process did not get as far as locking the directory
+                LOGGER.debug("Deleting stale Unix domain socket {}.", socketFile);
+                delete(socketFile);
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.WRITE)) {
+                FileLock lock = channel.tryLock();
+                if (lock == null) {
+                    // Another process is still listening on the socket
+                    continue;
+                }
+                LOGGER.debug("Deleting stale Unix domain socket {}.", socketFile);
+                delete(socketFile);
+            } catch (OverlappingFileLockException e) {
+                // This process is still listening on the socket
+            } catch (IOException e) {
+                LOGGER.debug("Could not check Unix domain socket {}.", socketFile, e);
+            }
+        }
+    }
+
+    private static boolean isExpired(File directory) {
+        return System.currentTimeMillis() - directory.lastModified() > UNLOCKED_SOCKET_DIRECTORY_RETENTION_MILLIS;
+    }
+
+    private static void delete(File socketFile) {
+        try {
+            Files.deleteIfExists(socketFile.toPath());
+            Files.deleteIfExists(new File(socketFile.getParentFile(), LOCK_FILE_NAME).toPath());
+            Files.deleteIfExists(socketFile.getParentFile().toPath());
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete Unix domain socket {}.", socketFile, e);
+        }
+    }
+
+    private static class SynchronizedAction implements Action<ConnectCompletion> {
+        private final Action<ConnectCompletion> action;
+
+        public SynchronizedAction(Action<ConnectCompletion> action) {
+            this.action = action;
+        }
+
+        @Override
+        public synchronized void execute(ConnectCompletion completion) {
+            action.execute(completion);
+        }
+    }
+
+    private static class Receiver implements Runnable {
+        private final ServerSocketChannel serverSocket;
+        private final Action<ConnectCompletion> action;
+
+        public Receiver(ServerSocketChannel serverSocket, Action<ConnectCompletion> action) {
+            this.serverSocket = serverSocket;
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            try {
+                try {
+                    while (true) {
+                        final SocketChannel socket = serverSocket.accept();
+                        LOGGER.debug("Accepted connection on {}.", socket.getLocalAddress());
+                        try {
+                            SocketBlockingUtil.configureNonblocking(socket);
+                            action.execute(new SocketConnectCompletion(socket));
+                        } catch (Throwable t) {
+                            socket.close();
+                            throw t;
+                        }
+                    }
+                } catch (ClosedChannelException e) {
+                    // Ignore
+                } catch (Throwable e) {
+                    LOGGER.error("Could not accept local connection.", e);
+                }
+            } finally {
+                CompositeStoppable.stoppable(serverSocket).stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.inet;
+
+import org.gradle.internal.remote.Address;
+import org.gradle.internal.remote.internal.ConnectCompletion;
+import org.gradle.internal.remote.internal.ConnectException;
+import org.gradle.internal.remote.internal.OutgoingConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Connects over the Unix domain socket of a {@link MultiChoiceAddress} when there is one and Unix domain sockets are available,
+ * and over TCP using the given connector otherwise.
+ */
+public class UnixDomainSocketOutgoingConnector implements OutgoingConnector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnixDomainSocketOutgoingConnector.class);
+    private final OutgoingConnector tcpConnector;
+
+    public UnixDomainSocketOutgoingConnector(OutgoingConnector tcpConnector) {
+        this.tcpConnector = tcpConnector;
+    }
+
+    @Override
+    public ConnectCompletion connect(Address destinationAddress) throws ConnectException {
+        UnixDomainSockets sockets = UnixDomainSockets.current();
+        if (sockets != null && destinationAddress instanceof MultiChoiceAddress) {
+            String socketPath = ((MultiChoiceAddress) destinationAddress).getUnixSocketPath();
+            if (socketPath != null && new File(socketPath).exists()) {
+                try {
+                    SocketChannel socketChannel = sockets.connect(socketPath);
+                    try {
+                        SocketBlockingUtil.configureNonblocking(socketChannel);
+                    } catch (IOException e) {
+                        socketChannel.close();
+                        throw e;
+                    }
+                    LOGGER.debug("Connected to Unix domain socket {}.", socketPath);
+                    return new SocketConnectCompletion(socketChannel);
+                } catch (IOException e) {
+                    LOGGER.debug("Cannot connect to Unix domain socket {}, connecting over TCP.", socketPath, e);
+                }
+            }
+        }
+        return tcpConnector.connect(destinationAddress);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.inet;
+
+import org.gradle.internal.UncheckedException;
+import org.gradle.internal.os.OperatingSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Access to Unix domain socket channels, which are only available from Java 16.
+ *
+ * <p>This module targets older JVMs, so the channels are opened reflectively.
+ * Unix domain sockets are not used on Windows, nor when the {@value #ENABLED_PROPERTY} system property is set to {@code false}.</p>
+ */
+class UnixDomainSockets {
+    public static final String ENABLED_PROPERTY = "org.gradle.internal.remote.unix-domain-sockets";
+
+    /**
+     * The longest socket path supported on all Unix derivatives, including the trailing null character.
+     */
+    private static final int MAX_PATH_LENGTH = 104;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnixDomainSockets.class);
+
+    @Nullable
+    private static final UnixDomainSockets INSTANCE = create();
+
+    private final ProtocolFamily unix;
+    private final Method addressOf;
+    private final Method openSocketChannel;
+    private final Method openServerSocketChannel;
+
+    private UnixDomainSockets(ProtocolFamily unix, Method addressOf, Method openSocketChannel, Method openServerSocketChannel) {
+        this.unix = unix;
+        this.addressOf = addressOf;
+        this.openSocketChannel = openSocketChannel;
+        this.openServerSocketChannel = openServerSocketChannel;
+    }
+
+    /**
+     * Returns the Unix domain socket support of the current JVM, or {@code null} when Unix domain sockets should not be used.
+     */
+    @Nullable
+    static UnixDomainSockets current() {
+        return INSTANCE;
+    }
+
+    static boolean isSupportedPath(String path) {
+        return path.length() < MAX_PATH_LENGTH;
+    }
+
+    ServerSocketChannel bind(String path) throws IOException {
+        ServerSocketChannel channel = (ServerSocketChannel) invoke(openServerSocketChannel, null, unix);
+        try {
+            channel.bind(addressOf(path));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    SocketChannel connect(String path) throws IOException {
+        SocketChannel channel = (SocketChannel) invoke(openSocketChannel, null, unix);
+        try {
+            channel.connect(addressOf(path));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    private SocketAddress addressOf(String path) throws IOException {
+        return (SocketAddress) invoke(addressOf, null, path);
+    }
+
+    private static Object invoke(Method method, @Nullable Object target, Object... args) throws IOException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw UncheckedException.throwAsUncheckedException(cause);
+        } catch (IllegalAccessException e) {
+            throw UncheckedException.throwAsUncheckedException(e);
+        }
+    }
+
+    @Nullable
+    private static UnixDomainSockets create() {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")) || OperatingSystem.current().isWindows()) {
+            return null;
+        }
+        try {
+            ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+            Class<?> addressType = Class.forName("java.net.UnixDomainSocketAddress");
+            return new UnixDomainSockets(
+                unix,
+                addressType.getMethod("of", String.class),
+                SocketChannel.class.getMethod("open", ProtocolFamily.class),
+                ServerSocketChannel.class.getMethod("open", ProtocolFamily.class)
+            );
+        } catch (IllegalArgumentException e) {
+            // No UNIX protocol family before Java 16
+        } catch (ClassNotFoundException e) {
+            // No Unix domain socket address before Java 16
+        } catch (NoSuchMethodException e) {
+            LOGGER.debug("Unix domain sockets are not available.", e);
+        }
+        return null;
+    }
+}
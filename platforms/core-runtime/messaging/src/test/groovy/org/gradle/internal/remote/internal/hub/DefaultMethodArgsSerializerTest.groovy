@@ -50,6 +50,40 @@ class DefaultMethodArgsSerializerTest extends SerializerSpec {
         defaultArgsBuilder.forTypes(_) >> serializer
 
         expect:
-        this.serializer.forTypes([String, Long, String] as Class[]) == serializer
+        this.serializer.forTypes([Object, Long, String] as Class[]) == serializer
+        this.serializer.forTypes([String, Throwable] as Class[]) == serializer
+        this.serializer.usesDefaultSerializer([Object, Long, String] as Class[])
+        this.serializer.usesDefaultSerializer([String, Throwable] as Class[])
+    }
+
+    def "serializes built-in types when no serializer registry knows about types"() {
+        expect:
+        def arraySerializer = serializer.forTypes([String, int, Long, boolean, File, byte[], Level] as Class[])
+        def file = new File("some-file")
+        def result = serialize(["a", 12, 13L, true, file, [1, 2] as byte[], Level.WARN] as Object[], arraySerializer)
+        result[0] == "a"
+        result[1] == 12
+        result[2] == 13L
+        result[3] == true
+        result[4] == file
+        result[5] == [1, 2] as byte[]
+        result[6] == Level.WARN
+        !serializer.usesDefaultSerializer([String, int, Long, boolean, File, byte[], Level] as Class[])
+        0 * defaultArgsBuilder._
+    }
+
+    def "serializes null values of built-in types"() {
+        expect:
+        def arraySerializer = serializer.forTypes([String, Integer, File, Level] as Class[])
+        serialize([null, null, null, null] as Object[], arraySerializer) == [null, null, null, null] as Object[]
+    }
+
+    def "does not use the default serializer for methods without parameters"() {
+        expect:
+        !serializer.usesDefaultSerializer([] as Class[])
+    }
+
+    enum Level {
+        INFO, WARN
     }
 }
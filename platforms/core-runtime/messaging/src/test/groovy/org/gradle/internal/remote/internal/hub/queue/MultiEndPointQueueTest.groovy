@@ -162,4 +162,55 @@ class MultiEndPointQueueTest extends AbstractQueueTest {
         messages.size() == 1
         messages[0] instanceof EndOfStream
     }
+
+    def "poll returns nothing when no message is dispatched in time"() {
+        given:
+        def endpoint = queue.newEndpoint()
+
+        when:
+        def messages = []
+        endpoint.poll(messages, 1000)
+
+        then:
+        messages.empty
+    }
+
+    def "poll forwards queued unicast messages"() {
+        given:
+        def message = unicast()
+        def endpoint = queue.newEndpoint()
+        queue.dispatch(message)
+
+        when:
+        def messages = []
+        endpoint.poll(messages, 1000)
+
+        then:
+        messages == [message]
+    }
+
+    def "endpoint that gave up polling waits for a single message"() {
+        given:
+        def message1 = unicast()
+        def message2 = unicast()
+        def endpoint1 = queue.newEndpoint()
+        def endpoint2 = queue.newEndpoint()
+
+        and:
+        endpoint1.poll([], 1000)
+        endpoint1.poll([], 1000)
+        queue.empty(endpoint2)
+
+        when:
+        queue.dispatch(message1)
+        queue.dispatch(message2)
+        def messages1 = []
+        endpoint1.take(messages1)
+        def messages2 = []
+        endpoint2.take(messages2)
+
+        then:
+        messages1 == [message1]
+        messages2 == [message2]
+    }
 }
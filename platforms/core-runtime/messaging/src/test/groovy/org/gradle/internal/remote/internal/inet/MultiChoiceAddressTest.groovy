@@ -46,4 +46,19 @@ class MultiChoiceAddressTest extends Specification {
         address != differentPort
         address != differentCanonical
     }
+
+    def "addresses are equal when their Unix domain socket paths are equal"() {
+        InetAddress candidate = InetAddress.getByName("1.1.1.1")
+        UUID id = UUID.randomUUID()
+        def address = new MultiChoiceAddress(id, 1234, [candidate], "/tmp/socket")
+        def same = new MultiChoiceAddress(id, 1234, [candidate], "/tmp/socket")
+        def differentSocket = new MultiChoiceAddress(id, 1234, [candidate], "/tmp/other")
+        def noSocket = new MultiChoiceAddress(id, 1234, [candidate])
+
+        expect:
+        address Matchers.strictlyEqual(same)
+        address != differentSocket
+        address.hashCode() != differentSocket.hashCode()
+        address != noSocket
+    }
 }
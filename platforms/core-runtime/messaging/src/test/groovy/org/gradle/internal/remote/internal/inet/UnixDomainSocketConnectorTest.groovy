@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.internal.remote.internal.inet
+
+import org.gradle.api.Action
+import org.gradle.internal.id.UUIDGenerator
+import org.gradle.internal.remote.internal.ConnectCompletion
+import org.gradle.internal.serialize.BaseSerializerFactory
+import org.gradle.internal.serialize.Serializers
+import org.gradle.test.fixtures.concurrent.ConcurrentSpec
+import org.gradle.test.precondition.Requires
+import org.gradle.test.preconditions.UnitTestPreconditions
+import spock.lang.Shared
+import spock.lang.Timeout
+
+import java.nio.file.Files
+import java.util.concurrent.TimeUnit
+
+@Timeout(60)
+@Requires([UnitTestPreconditions.Jdk16OrLater, UnitTestPreconditions.NotWindows])
+class UnixDomainSocketConnectorTest extends ConcurrentSpec {
+    @Shared def serializer = Serializers.stateful(BaseSerializerFactory.STRING_SERIALIZER)
+    final def tcpOutgoingConnector = new TcpOutgoingConnector()
+    final def outgoingConnector = new UnixDomainSocketOutgoingConnector(tcpOutgoingConnector)
+    final def incomingConnector = new UnixDomainSocketIncomingConnector(new TcpIncomingConnector(executorFactory, new InetAddressFactory(), new UUIDGenerator()), executorFactory)
+
+    def "server listens on a Unix domain socket in addition to TCP"() {
+        when:
+        def acceptor = incomingConnector.accept(Mock(Action), false)
+        def address = acceptor.address as MultiChoiceAddress
+
+        then:
+        address.port > 0
+        !address.candidates.empty
+        address.unixSocketPath != null
+        new File(address.unixSocketPath).exists()
+
+        cleanup:
+        acceptor?.stop()
+    }
+
+    def "client connects over the Unix domain socket"() {
+        when:
+        def acceptor = incomingConnector.accept({ ConnectCompletion event ->
+            def conn = event.create(serializer)
+            conn.dispatch(conn.toString())
+            conn.flush()
+            instant.connected
+        } as Action, false)
+        def connection = outgoingConnector.connect(acceptor.address).create(serializer)
+        thread.blockUntil.connected
+
+        then:
+        connection.receive().contains((acceptor.address as MultiChoiceAddress).unixSocketPath)
+
+        cleanup:
+        connection?.stop()
+        acceptor?.stop()
+    }
+
+    def "client connects over TCP when the Unix domain socket is not used"() {
+        when:
+        def acceptor = incomingConnector.accept({ ConnectCompletion event ->
+            def conn = event.create(serializer)
+            conn.dispatch(conn.toString())
+            conn.flush()
+            instant.connected
+        } as Action, false)
+        def connection = tcpOutgoingConnector.connect(acceptor.address).create(serializer)
+        thread.blockUntil.connected
+
+        then:
+        !connection.receive().contains((acceptor.address as MultiChoiceAddress).unixSocketPath)
+
+        cleanup:
+        connection?.stop()
+        acceptor?.stop()
+    }
+
+    def "client falls back to TCP when the Unix domain socket does not exist"() {
+        Action action = Mock()
+
+        given:
+        def acceptor = incomingConnector.accept(action, false)
+        def address = (acceptor.address as MultiChoiceAddress).withUnixSocketPath("/does-not-exist/socket")
+
+        when:
+        def connection = outgoingConnector.connect(address).create(serializer)
+        thread.blockUntil.connected
+
+        then:
+        1 * action.execute(!null) >> { instant.connected }
+
+        cleanup:
+        connection?.stop()
+        acceptor?.stop()
+    }
+
+    def "removes the Unix domain socket when stopped"() {
+        given:
+        def acceptor = incomingConnector.accept(Mock(Action), false)
+        def socketFile = new File((acceptor.address as MultiChoiceAddress).unixSocketPath)
+
+        when:
+        acceptor.stop()
+
+        then:
+        !socketFile.exists()
+        !socketFile.parentFile.exists()
+    }
+
+    def "removes Unix domain sockets of exited processes when first accepting connections"() {
+        given:
+        def staleDirectory = staleSocketDirectory()
+        def staleSocket = new File(staleDirectory, "socket")
+        UnixDomainSockets.current().bind(staleSocket.path).close()
+        new File(staleDirectory, "lock").createNewFile()
+        staleDirectory.setLastModified(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1))
+
+        expect:
+        staleSocket.exists()
+
+        when:
+        def acceptor = incomingConnector.accept(Mock(Action), false)
+
+        then:
+        !staleDirectory.exists()
+
+        cleanup:
+        acceptor?.stop()
+        staleDirectory.deleteDir()
+    }
+
+    def "keeps Unix domain sockets whose process is listening"() {
+        given:
+        def liveAcceptor = incomingConnector.accept(Mock(Action), false)
+        def liveSocket = new File((liveAcceptor.address as MultiChoiceAddress).unixSocketPath)
+        liveSocket.parentFile.setLastModified(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1))
+        def connections = 0
+        def connectAction = { connections++ } as Action<ConnectCompletion>
+
+        when:
+        def acceptor = new UnixDomainSocketIncomingConnector(new TcpIncomingConnector(executorFactory, new InetAddressFactory(), new UUIDGenerator()), executorFactory).accept(connectAction, false)
+
+        then:
+        liveSocket.exists()
+        connections == 0
+
+        cleanup:
+        acceptor?.stop()
+        liveAcceptor?.stop()
+    }
+
+    def "keeps recently created socket directories that are not locked yet"() {
+        given:
+        def directory = staleSocketDirectory()
+
+        when:
+        def acceptor = incomingConnector.accept(Mock(Action), false)
+
+        then:
+        directory.exists()
+
+        cleanup:
+        acceptor?.stop()
+        directory.deleteDir()
+    }
+
+    def "server only listens on TCP when remote connections are allowed"() {
+        when:
+        def acceptor = incomingConnector.accept(Mock(Action), true)
+
+        then:
+        (acceptor.address as MultiChoiceAddress).unixSocketPath == null
+
+        cleanup:
+        acceptor?.stop()
+    }
+
+    private static File staleSocketDirectory() {
+        return Files.createTempDirectory("gradle-socket-").toFile()
+    }
+}
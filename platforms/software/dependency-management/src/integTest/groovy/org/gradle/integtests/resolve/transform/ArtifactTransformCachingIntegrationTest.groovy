@@ -2003,6 +2003,82 @@ resultsFile:
         "MakeGreen,MakeBlue" | 0
     }
 
+    def "can enable storing non-cacheable transforms to build cache with experimental property"() {
+        given:
+        buildFile << declareAttributes() << withExternalLibDependency("lib1") << """
+            @DisableCachingByDefault
+            abstract class MakeGreen implements TransformAction<TransformParameters.None> {
+                @PathSensitive(PathSensitivity.NAME_ONLY)
+                @InputArtifact
+                abstract Provider<FileSystemLocation> getInputArtifact()
+
+                void transform(TransformOutputs outputs) {
+                    def input = inputArtifact.get().asFile
+                    outputs.file(input.name + ".green").text = 'green'
+                    println "Transformed \$input.name to green"
+                }
+            }
+            @DisableCachingByDefault
+            abstract class MakeBlue implements TransformAction<TransformParameters.None> {
+                @PathSensitive(PathSensitivity.NAME_ONLY)
+                @InputArtifact
+                abstract Provider<FileSystemLocation> getInputArtifact()
+
+                void transform(TransformOutputs outputs) {
+                    def input = inputArtifact.get().asFile
+                    outputs.file(input.name + ".blue").text = 'blue'
+                    println "Transformed \$input.name to blue"
+                }
+            }
+
+            allprojects {
+                dependencies {
+                    registerTransform(MakeGreen) {
+                        from.attribute(artifactType, 'jar')
+                        to.attribute(artifactType, 'green')
+                    }
+                    registerTransform(MakeBlue) {
+                        from.attribute(artifactType, 'jar')
+                        to.attribute(artifactType, 'blue')
+                    }
+                }
+                task resolveGreen(type: Resolve) {
+                    artifacts = configurations.compile.incoming.artifactView {
+                        attributes { it.attribute(artifactType, 'green') }
+                    }.artifacts
+                }
+                task resolveBlue(type: Resolve) {
+                    artifacts = configurations.compile.incoming.artifactView {
+                        attributes { it.attribute(artifactType, 'blue') }
+                    }.artifacts
+                }
+                task resolve {
+                    dependsOn(resolveGreen, resolveBlue)
+                }
+            }
+        """
+
+        when:
+        executer.requireOwnGradleUserHomeDir("Test checks existence of build cache entries")
+        executer.withArguments("--build-cache", "--info", "-Dorg.gradle.internal.transform-caching-enabled=${transformsEnabled}")
+        succeeds ":lib:resolve"
+
+        then:
+        output.contains("Transformed lib1-1.0.jar to green")
+        output.contains("Transformed lib1-1.0.jar to blue")
+
+        def localBuildCacheDir = executer.gradleUserHomeDir.file("caches/build-cache-1")
+        def localBuildCacheFiles = localBuildCacheDir.list { dir, fileName -> fileName != "gc.properties" && fileName != "build-cache-1.lock" }
+        (localBuildCacheFiles?.length ?: 0) == entryCount
+
+        where:
+        transformsEnabled    | entryCount
+        "true"               | 2
+        "false"              | 0
+        "MakeGreen"          | 1
+        "MakeGreen,MakeBlue" | 2
+    }
+
     def "cleans up cache"() {
         given:
         buildFile << declareAttributes() << multiProjectWithJarSizeTransform()
@@ -125,6 +125,48 @@ public void resolve(ModuleComponentSelector requested, ComponentOverrideMetadata
         }
     }
 
+    /**
+     * Returns true if every repository can list the versions of the requested module from memory or from the caches.
+     * Resolving a dynamic selector lists the versions in all repositories, so when any of them cannot, resolving the selector requires remote access.
+     */
+    public boolean isVersionListingCached(ModuleComponentSelector requested, ComponentOverrideMetadata overrideMetadata) {
+        for (ModuleComponentRepository<ExternalModuleComponentGraphResolveState> repository : repositories) {
+            if (!hasCachedVersionListing(repository, requested, overrideMetadata)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists the versions of the requested module in each repository without a cached listing, storing them in the caches so that a later call to {@link #resolve} does not need remote access.
+     * This does not select a version, so it can be done for several modules concurrently. Failures are ignored here and reported by the later resolution.
+     */
+    public void prefetchVersionListings(ModuleComponentSelector requested, ComponentOverrideMetadata overrideMetadata) {
+        for (ModuleComponentRepository<ExternalModuleComponentGraphResolveState> repository : repositories) {
+            if (hasCachedVersionListing(repository, requested, overrideMetadata)) {
+                continue;
+            }
+            DefaultBuildableModuleVersionListingResolveResult listing = new DefaultBuildableModuleVersionListingResolveResult();
+            try {
+                repository.getRemoteAccess().listModuleVersions(requested, overrideMetadata, listing);
+            } catch (Exception e) {
+                LOGGER.debug("Could not prefetch version listing for {} from {}", requested, repository.getName(), e);
+                return;
+            }
+            if (listing.getFailure() != null) {
+                // Resolution reports the failure, and may not query the remaining repositories after it
+                return;
+            }
+        }
+    }
+
+    private static boolean hasCachedVersionListing(ModuleComponentRepository<ExternalModuleComponentGraphResolveState> repository, ModuleComponentSelector requested, ComponentOverrideMetadata overrideMetadata) {
+        DefaultBuildableModuleVersionListingResolveResult listing = new DefaultBuildableModuleVersionListingResolveResult();
+        repository.getLocalAccess().listModuleVersions(requested, overrideMetadata, listing);
+        return listing.hasResult();
+    }
+
     private void found(BuildableComponentIdResolveResult result, List<RepositoryResolveState> resolveStates, RepositoryChainModuleResolution latestResolved) {
         for (RepositoryResolveState resolveState : resolveStates) {
             resolveState.registerAttempts(result);
@@ -69,4 +69,19 @@ public void resolve(ComponentSelector selector, ComponentOverrideMetadata overri
             }
         }
     }
+
+    @Override
+    public boolean requiresRemoteAccess(ComponentSelector selector, ComponentOverrideMetadata overrideMetadata, VersionSelector acceptor) {
+        if (selector instanceof ModuleComponentSelector && acceptor.isDynamic()) {
+            return !dynamicRevisionResolver.isVersionListingCached((ModuleComponentSelector) selector, overrideMetadata);
+        }
+        return false;
+    }
+
+    @Override
+    public void prefetch(ComponentSelector selector, ComponentOverrideMetadata overrideMetadata, VersionSelector acceptor) {
+        if (selector instanceof ModuleComponentSelector && acceptor.isDynamic()) {
+            dynamicRevisionResolver.prefetchVersionListings((ModuleComponentSelector) selector, overrideMetadata);
+        }
+    }
 }
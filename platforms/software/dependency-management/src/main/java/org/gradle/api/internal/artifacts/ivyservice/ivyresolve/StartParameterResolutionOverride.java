@@ -30,6 +30,7 @@
 import org.gradle.api.internal.component.ArtifactType;
 import org.gradle.api.internal.properties.GradleProperties;
 import org.gradle.api.resources.ResourceException;
+import org.gradle.cache.scopes.BuildScopedCacheBuilderFactory;
 import org.gradle.internal.Factory;
 import org.gradle.internal.component.external.model.ExternalModuleComponentGraphResolveState;
 import org.gradle.internal.component.external.model.ModuleComponentResolveMetadata;
@@ -83,7 +84,8 @@ public DependencyVerificationOverride dependencyVerificationOverride(
         DocumentationRegistry documentationRegistry,
         BuildCommencedTimeProvider timeProvider,
         Factory<GradleProperties> gradlePropertiesFactory,
-        FileResourceListener fileResourceListener
+        FileResourceListener fileResourceListener,
+        BuildScopedCacheBuilderFactory cacheBuilderFactory
     ) {
         List<String> checksums = startParameter.getWriteDependencyVerifications();
         File verificationsFile = DependencyVerificationOverride.dependencyVerificationsFile(gradleDir);
@@ -101,7 +103,7 @@ public DependencyVerificationOverride dependencyVerificationOverride(
 
         try {
             File sessionReportDir = computeReportDirectory(timeProvider);
-            return new ChecksumAndSignatureVerificationOverride(buildOperationExecutor, startParameter.getGradleUserHomeDir(), verificationsFile, checksumService, signatureVerificationServiceFactory, startParameter.getDependencyVerificationMode(), documentationRegistry, sessionReportDir, gradlePropertiesFactory, fileResourceListener);
+            return new ChecksumAndSignatureVerificationOverride(buildOperationExecutor, startParameter.getGradleUserHomeDir(), verificationsFile, checksumService, signatureVerificationServiceFactory, startParameter.getDependencyVerificationMode(), documentationRegistry, sessionReportDir, gradlePropertiesFactory, fileResourceListener, cacheBuilderFactory, startParameter.isRefreshKeys());
         } catch (Exception e) {
             return new FailureVerificationOverride(e);
         }
@@ -39,12 +39,14 @@
 import org.gradle.api.internal.properties.GradleProperties;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
+import org.gradle.cache.scopes.BuildScopedCacheBuilderFactory;
 import org.gradle.internal.Factory;
 import org.gradle.internal.UncheckedException;
 import org.gradle.internal.component.external.model.ModuleComponentArtifactIdentifier;
 import org.gradle.internal.component.external.model.ExternalModuleComponentGraphResolveState;
 import org.gradle.internal.concurrent.Stoppable;
 import org.gradle.internal.hash.ChecksumService;
+import org.gradle.internal.hash.HashCode;
 import org.gradle.internal.logging.ConsoleRenderer;
 import org.gradle.internal.operations.BuildOperationContext;
 import org.gradle.internal.operations.BuildOperationDescriptor;
@@ -76,6 +78,7 @@ public class ChecksumAndSignatureVerificationOverride implements DependencyVerif
     private final Deque<VerificationEvent> verificationEvents = Queues.newArrayDeque();
     private final AtomicBoolean closed = new AtomicBoolean();
     private final DependencyVerificationReportWriter reportWriter;
+    private final CrossBuildVerifiedArtifactsCache verifiedArtifactsCache;
 
     // Must hold lock on `failuresLock` to access `failures` or `hasFatalFailure`
     private final Object failuresLock = new Object();
@@ -92,7 +95,9 @@ public ChecksumAndSignatureVerificationOverride(
         DocumentationRegistry documentationRegistry,
         File reportsDirectory,
         Factory<GradleProperties> gradlePropertiesFactory,
-        FileResourceListener fileResourceListener
+        FileResourceListener fileResourceListener,
+        BuildScopedCacheBuilderFactory cacheBuilderFactory,
+        boolean refreshKeys
     ) {
         this.buildOperationExecutor = buildOperationExecutor;
         this.checksumService = checksumService;
@@ -110,6 +115,9 @@ public ChecksumAndSignatureVerificationOverride(
         }
         BuildTreeDefinedKeys localKeyring = new BuildTreeDefinedKeys(verificationsFile.getParentFile(), verifier.getConfiguration().getKeyringFormat());
         this.signatureVerificationService = signatureVerificationServiceFactory.create(localKeyring, keyServers(), verifier.getConfiguration().isUseKeyServers());
+        HashCode revision = CrossBuildVerifiedArtifactsCache.revisionOf(checksumService, verificationsFile, observed(localKeyring.getEffectiveKeyringsFile()));
+        // When keys are refreshed, previous verification results cannot be trusted anymore
+        this.verifiedArtifactsCache = new CrossBuildVerifiedArtifactsCache(cacheBuilderFactory, checksumService, revision, refreshKeys);
     }
 
     private List<URI> keyServers() {
@@ -144,7 +152,14 @@ private void verifyConcurrently() {
                     queue.add(new RunnableBuildOperation() {
                         @Override
                         public void run(BuildOperationContext context) {
-                            verifier.verify(checksumService, signatureVerificationService, ve.kind, ve.artifact, observed(ve.mainFile), observed(ve.signatureFile.create()), f -> {
+                            File mainFile = observed(ve.mainFile);
+                            File signatureFile = observed(ve.signatureFile.create());
+                            if (verifiedArtifactsCache.isVerified(mainFile, signatureFile)) {
+                                return;
+                            }
+                            AtomicBoolean failed = new AtomicBoolean();
+                            verifier.verify(checksumService, signatureVerificationService, ve.kind, ve.artifact, mainFile, signatureFile, f -> {
+                                failed.set(true);
                                 synchronized (failuresLock) {
                                     failures.put(ve.artifact, new RepositoryAwareVerificationFailure(f, ve.repositoryName));
                                     if (f.isFatal()) {
@@ -152,6 +167,9 @@ public void run(BuildOperationContext context) {
                                     }
                                 }
                             });
+                            if (!failed.get()) {
+                                verifiedArtifactsCache.markVerified(mainFile, signatureFile);
+                            }
                         }
 
                         @Override
@@ -242,6 +260,7 @@ private File observed(File file) {
     public void stop() {
         closed.set(true);
         signatureVerificationService.stop();
+        verifiedArtifactsCache.close();
     }
 
     private static class VerificationQuery {
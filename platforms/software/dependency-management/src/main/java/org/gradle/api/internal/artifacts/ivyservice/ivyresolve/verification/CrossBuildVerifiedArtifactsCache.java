@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification;
+
+import org.gradle.cache.FileLockManager;
+import org.gradle.cache.IndexedCache;
+import org.gradle.cache.IndexedCacheParameters;
+import org.gradle.cache.PersistentCache;
+import org.gradle.cache.scopes.BuildScopedCacheBuilderFactory;
+import org.gradle.internal.hash.ChecksumService;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.Hasher;
+import org.gradle.internal.hash.Hashing;
+import org.gradle.internal.serialize.BaseSerializerFactory;
+import org.gradle.internal.serialize.HashCodeSerializer;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.File;
+
+/**
+ * Remembers which artifacts passed dependency verification in previous builds.
+ *
+ * An entry is keyed by the location of the artifact and of its signature. It records a hash of the revision
+ * of the verification metadata (the hash of the verification file and of the keyring) and of the verified
+ * content, so an entry is replaced rather than added to when the metadata changes. Only artifacts which were
+ * verified without any failure are recorded, so an unchanged artifact can skip checksum and signature
+ * verification entirely.
+ *
+ * When keys are refreshed, previous results are not used, but the results of the build are still recorded.
+ */
+class CrossBuildVerifiedArtifactsCache implements Closeable {
+    private static final HashCode NO_SIGNATURE = Hashing.signature(CrossBuildVerifiedArtifactsCache.class);
+
+    private final ChecksumService checksumService;
+    private final HashCode revision;
+    private final boolean reusePreviousResults;
+    private final PersistentCache store;
+    private final IndexedCache<String, HashCode> cache;
+
+    CrossBuildVerifiedArtifactsCache(BuildScopedCacheBuilderFactory cacheBuilderFactory, ChecksumService checksumService, HashCode revision, boolean refreshKeys) {
+        this.checksumService = checksumService;
+        this.revision = revision;
+        this.reusePreviousResults = !refreshKeys;
+        this.store = cacheBuilderFactory.createCacheBuilder("dependency-verification")
+            .withDisplayName("Verified artifacts cache")
+            .withInitialLockMode(FileLockManager.LockMode.OnDemand)
+            .open();
+        this.cache = store.createIndexedCache(
+            IndexedCacheParameters.of("verified-artifacts", BaseSerializerFactory.STRING_SERIALIZER, new HashCodeSerializer())
+        );
+    }
+
+    /**
+     * Computes the revision of the verification metadata from the files it is read from.
+     */
+    static HashCode revisionOf(ChecksumService checksumService, File verificationsFile, File keyringsFile) {
+        Hasher hasher = Hashing.newHasher();
+        hasher.putHash(checksumService.sha256(verificationsFile));
+        if (keyringsFile.exists()) {
+            hasher.putHash(checksumService.sha256(keyringsFile));
+        } else {
+            hasher.putNull();
+        }
+        return hasher.hash();
+    }
+
+    boolean isVerified(File mainFile, @Nullable File signatureFile) {
+        if (!reusePreviousResults || !mainFile.exists()) {
+            return false;
+        }
+        HashCode verified = cache.getIfPresent(keyOf(mainFile, signatureFile));
+        return verified != null && verified.equals(verifiedHashOf(mainFile, signatureFile));
+    }
+
+    void markVerified(File mainFile, @Nullable File signatureFile) {
+        if (mainFile.exists()) {
+            cache.put(keyOf(mainFile, signatureFile), verifiedHashOf(mainFile, signatureFile));
+        }
+    }
+
+    private static String keyOf(File mainFile, @Nullable File signatureFile) {
+        return mainFile.getAbsolutePath() + ":" + (signatureFile == null ? "" : signatureFile.getAbsolutePath());
+    }
+
+    private HashCode verifiedHashOf(File mainFile, @Nullable File signatureFile) {
+        Hasher hasher = Hashing.newHasher();
+        hasher.putHash(revision);
+        hasher.putHash(checksumService.sha256(mainFile));
+        hasher.putHash(signatureFile == null ? NO_SIGNATURE : checksumService.sha256(signatureFile));
+        return hasher.hash();
+    }
+
+    @Override
+    public void close() {
+        store.close();
+    }
+}
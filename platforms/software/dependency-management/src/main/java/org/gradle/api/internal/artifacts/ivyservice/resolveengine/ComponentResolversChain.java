@@ -148,5 +148,22 @@ public void resolve(ComponentSelector selector, ComponentOverrideMetadata overri
                 resolver.resolve(selector, overrideMetadata, acceptor, rejector, result);
             }
         }
+
+        @Override
+        public boolean requiresRemoteAccess(ComponentSelector selector, ComponentOverrideMetadata overrideMetadata, VersionSelector acceptor) {
+            for (DependencyToComponentIdResolver resolver : resolvers) {
+                if (resolver.requiresRemoteAccess(selector, overrideMetadata, acceptor)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void prefetch(ComponentSelector selector, ComponentOverrideMetadata overrideMetadata, VersionSelector acceptor) {
+            for (DependencyToComponentIdResolver resolver : resolvers) {
+                resolver.prefetch(selector, overrideMetadata, acceptor);
+            }
+        }
     }
 }
@@ -71,8 +71,10 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -278,6 +280,9 @@ private boolean resolveEdges(
         if (dependencies.isEmpty()) {
             return false;
         }
+        if (!recomputeSelectors) {
+            maybePrefetchVersionListingsInParallel(node, dependencies, edgeFilter, buildOperationExecutor);
+        }
         if (performSelectionSerially(dependencies, edgeFilter, resolveState, recomputeSelectors)) {
             maybeDownloadMetadataInParallel(node, dependencies, edgeFilter, buildOperationExecutor, resolveState.getComponentMetadataResolver());
             attachToTargetRevisionsSerially(dependencies, edgeFilter);
@@ -315,6 +320,38 @@ private static boolean performSelectionSerially(List<EdgeState> edges, Spec<Edge
         return processed;
     }
 
+    /**
+     * Fetches the version listings required by new dynamic selectors concurrently, when they are not available from the caches.
+     * Selection is then performed serially from the caches, instead of waiting for one remote listing after the other.
+     */
+    private static void maybePrefetchVersionListingsInParallel(NodeState node, List<EdgeState> edges, Spec<EdgeState> edgeFilter, BuildOperationExecutor buildOperationExecutor) {
+        Map<ModuleResolveState, SelectorState> requiringPrefetch = null;
+        for (EdgeState edge : edges) {
+            if (!edgeFilter.isSatisfiedBy(edge)) {
+                continue;
+            }
+            SelectorState selector = edge.getSelector();
+            ModuleResolveState module = selector.getTargetModule();
+            if (module.getSelected() == null && (requiringPrefetch == null || !requiringPrefetch.containsKey(module)) && selector.canPrefetch()) {
+                // Avoid initializing the map if there are no selectors requiring prefetch (a common case)
+                if (requiringPrefetch == null) {
+                    requiringPrefetch = new LinkedHashMap<>();
+                }
+                requiringPrefetch.put(module, selector);
+            }
+        }
+        // Only prefetch in parallel if there is more than 1 module to list
+        if (requiringPrefetch != null && requiringPrefetch.size() > 1) {
+            final ImmutableList<SelectorState> toPrefetchInParallel = ImmutableList.copyOf(requiringPrefetch.values());
+            LOGGER.debug("Submitting {} version listings to resolve in parallel for {}", toPrefetchInParallel.size(), node);
+            buildOperationExecutor.runAll(buildOperationQueue -> {
+                for (final SelectorState selector : toPrefetchInParallel) {
+                    buildOperationQueue.add(new PrefetchVersionListingOperation(selector));
+                }
+            }, BuildOperationConstraint.UNCONSTRAINED);
+        }
+    }
+
     /**
      * Attempts to resolve a target `ComponentState` for the given dependency.
      * On successful resolve, a `ComponentState` is constructed for the identifier, recorded as {@link ModuleResolveState#getSelected()},
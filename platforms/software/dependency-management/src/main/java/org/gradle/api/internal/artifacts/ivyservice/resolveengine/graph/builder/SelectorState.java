@@ -187,9 +187,7 @@ private ComponentIdResolveResult resolve(@Nullable VersionSelector selector, Ver
             if (dependencyState.failure != null) {
                 idResolveResult.failed(dependencyState.failure);
             } else {
-                IvyArtifactName firstArtifact = getFirstDependencyArtifact();
-                ComponentOverrideMetadata overrideMetadata = DefaultComponentOverrideMetadata.forDependency(changing, firstArtifact, clientModule);
-                resolver.resolve(dependencyState.getDependency().getSelector(), overrideMetadata, selector, rejector, idResolveResult);
+                resolver.resolve(dependencyState.getDependency().getSelector(), getOverrideMetadata(), selector, rejector, idResolveResult);
             }
 
             if (idResolveResult.getFailure() != null) {
@@ -202,6 +200,32 @@ private ComponentIdResolveResult resolve(@Nullable VersionSelector selector, Ver
         }
     }
 
+    /**
+     * Returns true if resolving this new selector requires remote access which can be done ahead of time using {@link #prefetch()}.
+     */
+    boolean canPrefetch() {
+        if (resolved || dependencyState.failure != null || isProjectSelector || versionConstraint == null) {
+            return false;
+        }
+        VersionSelector requiredSelector = versionConstraint.getRequiredSelector();
+        if (requiredSelector == null || !requiredSelector.isDynamic()) {
+            return false;
+        }
+        return resolver.requiresRemoteAccess(dependencyState.getDependency().getSelector(), getOverrideMetadata(), requiredSelector);
+    }
+
+    /**
+     * Fetches the remote information required to resolve this selector, without resolving it. Can be called from any thread.
+     */
+    void prefetch() {
+        resolver.prefetch(dependencyState.getDependency().getSelector(), getOverrideMetadata(), versionConstraint.getRequiredSelector());
+    }
+
+    private ComponentOverrideMetadata getOverrideMetadata() {
+        IvyArtifactName firstArtifact = getFirstDependencyArtifact();
+        return DefaultComponentOverrideMetadata.forDependency(changing, firstArtifact, clientModule);
+    }
+
     private boolean requiresResolve(@Nullable ComponentIdResolveResult previousResult, @Nullable VersionSelector allRejects) {
         this.reusable = false;
         // If we've never resolved, must resolve
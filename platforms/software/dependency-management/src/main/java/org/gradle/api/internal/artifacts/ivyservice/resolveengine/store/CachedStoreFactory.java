@@ -42,7 +42,9 @@
 
     public CachedStoreFactory(String displayName) {
         this.displayName = displayName;
-        cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).expireAfterAccess(CACHE_EXPIRY, TimeUnit.MILLISECONDS).build();
+        // Values are softly referenced: the results can always be loaded again from their binary store, so
+        // there is no need to keep large deserialized graphs on the heap when memory is tight
+        cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).expireAfterAccess(CACHE_EXPIRY, TimeUnit.MILLISECONDS).softValues().build();
         stats = new Stats();
     }
 
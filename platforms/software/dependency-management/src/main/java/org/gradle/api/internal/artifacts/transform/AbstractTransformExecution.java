@@ -88,6 +88,7 @@ abstract class AbstractTransformExecution implements UnitOfWork {
     private final Provider<FileSystemLocation> inputArtifactProvider;
     protected final InputFingerprinter inputFingerprinter;
     private final boolean disableCachingByProperty;
+    private final boolean enableCachingByProperty;
 
     private BuildOperationContext operationContext;
 
@@ -101,7 +102,8 @@ protected AbstractTransformExecution(
         BuildOperationProgressEventEmitter progressEventEmitter,
         FileCollectionFactory fileCollectionFactory,
         InputFingerprinter inputFingerprinter,
-        boolean disableCachingByProperty
+        boolean disableCachingByProperty,
+        boolean enableCachingByProperty
     ) {
         this.transform = transform;
         this.inputArtifact = inputArtifact;
@@ -115,6 +117,7 @@ protected AbstractTransformExecution(
         this.fileCollectionFactory = fileCollectionFactory;
         this.inputFingerprinter = inputFingerprinter;
         this.disableCachingByProperty = disableCachingByProperty;
+        this.enableCachingByProperty = enableCachingByProperty;
     }
 
     @Override
@@ -302,7 +305,9 @@ public void markLegacySnapshottingInputsFinished(CachingState cachingState) {
 
     @Override
     public Optional<CachingDisabledReason> shouldDisableCaching(@Nullable OverlappingOutputs detectedOverlappingOutputs) {
-        return transform.isCacheable()
+        // Transforms which are not cacheable by default can still be opted into the build cache,
+        // so whole workspaces can be shared between machines instead of being recomputed on each of them
+        return transform.isCacheable() || enableCachingByProperty
             ? maybeDisableCachingByProperty()
             : Optional.of(NOT_CACHEABLE);
     }
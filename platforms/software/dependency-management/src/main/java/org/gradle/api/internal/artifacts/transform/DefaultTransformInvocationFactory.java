@@ -44,6 +44,7 @@
 
 public class DefaultTransformInvocationFactory implements TransformInvocationFactory {
     private static final StringInternalOption CACHING_DISABLED_PROPERTY = new StringInternalOption("org.gradle.internal.transform-caching-disabled", null);
+    private static final StringInternalOption CACHING_ENABLED_PROPERTY = new StringInternalOption("org.gradle.internal.transform-caching-enabled", null);
 
     private final ExecutionEngine executionEngine;
     private final FileSystemAccess fileSystemAccess;
@@ -90,7 +91,8 @@ public Deferrable<Try<ImmutableList<File>>> createInvocation(
         Cache<Identity, IdentityCacheResult<TransformWorkspaceResult>> identityCache;
         UnitOfWork execution;
 
-        boolean cachingDisabledByProperty = isCachingDisabledByProperty(transform);
+        boolean cachingDisabledByProperty = isSelectedByProperty(CACHING_DISABLED_PROPERTY, transform);
+        boolean cachingEnabledByProperty = isSelectedByProperty(CACHING_ENABLED_PROPERTY, transform);
 
         // TODO This is a workaround for script compilation that is triggered via the "early" execution
         //      engine created in DependencyManagementBuildScopeServices. We should unify the execution
@@ -115,7 +117,8 @@ public Deferrable<Try<ImmutableList<File>>> createInvocation(
                 fileSystemAccess,
                 immutableWorkspaceServices.getWorkspaceProvider(),
 
-                cachingDisabledByProperty
+                cachingDisabledByProperty,
+                cachingEnabledByProperty
             );
             effectiveEngine = executionEngine;
         } else {
@@ -136,7 +139,8 @@ public Deferrable<Try<ImmutableList<File>>> createInvocation(
                     inputFingerprinter,
                     immutableWorkspaceServices.getWorkspaceProvider(),
 
-                    cachingDisabledByProperty
+                    cachingDisabledByProperty,
+                    cachingEnabledByProperty
                 );
             } else {
                 // Incremental project artifact transforms run in project-bound mutable workspace
@@ -156,7 +160,8 @@ public Deferrable<Try<ImmutableList<File>>> createInvocation(
                     inputFingerprinter,
                     workspaceServices.getWorkspaceProvider(),
 
-                    cachingDisabledByProperty
+                    cachingDisabledByProperty,
+                    cachingEnabledByProperty
                 );
             }
         }
@@ -177,14 +182,18 @@ private ProjectInternal determineProducerProject(TransformStepSubject subject) {
         }
     }
 
-    private boolean isCachingDisabledByProperty(Transform transform) {
-        String experimentalProperty = internalOptions.getOption(CACHING_DISABLED_PROPERTY).get();
+    /**
+     * Checks whether the given property selects the transform, either by being set to {@code true}
+     * or by listing the transform implementation class among its comma-separated values.
+     */
+    private boolean isSelectedByProperty(StringInternalOption property, Transform transform) {
+        String experimentalProperty = internalOptions.getOption(property).get();
         if (experimentalProperty != null) {
             if (experimentalProperty.isEmpty() || experimentalProperty.equals("true")) {
                 return true;
             }
-            List<String> disabledTransformClasses = Arrays.asList(experimentalProperty.split(","));
-            return disabledTransformClasses.contains(transform.getImplementationClass().getName());
+            List<String> selectedTransformClasses = Arrays.asList(experimentalProperty.split(","));
+            return selectedTransformClasses.contains(transform.getImplementationClass().getName());
         }
 
         return false;
@@ -48,12 +48,14 @@ public MutableTransformExecution(
         InputFingerprinter inputFingerprinter,
         MutableWorkspaceProvider workspaceProvider,
 
-        boolean disableCachingByProperty
+        boolean disableCachingByProperty,
+        boolean enableCachingByProperty
     ) {
         super(
             transform, inputArtifact, dependencies, subject,
             transformExecutionListener, buildOperationRunner, progressEventEmitter, fileCollectionFactory, inputFingerprinter,
-            disableCachingByProperty
+            disableCachingByProperty,
+            enableCachingByProperty
         );
         this.rootProjectLocation = producerProject.getRootDir().getAbsolutePath() + File.separator;
         this.producerBuildTreePath = producerProject.getBuildTreePath();
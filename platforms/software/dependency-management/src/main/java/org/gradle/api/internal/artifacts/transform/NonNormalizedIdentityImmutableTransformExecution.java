@@ -49,12 +49,14 @@ public NonNormalizedIdentityImmutableTransformExecution(
         FileSystemAccess fileSystemAccess,
         ImmutableWorkspaceProvider workspaceProvider,
 
-        boolean disableCachingByProperty
+        boolean disableCachingByProperty,
+        boolean enableCachingByProperty
     ) {
         super(
             transform, inputArtifact, dependencies, subject,
             transformExecutionListener, buildOperationRunner, progressEventEmitter, fileCollectionFactory, inputFingerprinter,
-            disableCachingByProperty
+            disableCachingByProperty,
+            enableCachingByProperty
         );
         this.fileSystemAccess = fileSystemAccess;
         this.workspaceProvider = workspaceProvider;
@@ -44,12 +44,14 @@ public NormalizedIdentityImmutableTransformExecution(
         InputFingerprinter inputFingerprinter,
         ImmutableWorkspaceProvider workspaceProvider,
 
-        boolean disableCachingByProperty
+        boolean disableCachingByProperty,
+        boolean enableCachingByProperty
     ) {
         super(
             transform, inputArtifact, dependencies, subject,
             transformExecutionListener, buildOperationRunner, progressEventEmitter, fileCollectionFactory, inputFingerprinter,
-            disableCachingByProperty
+            disableCachingByProperty,
+            enableCachingByProperty
         );
         this.workspaceProvider = workspaceProvider;
     }
@@ -16,13 +16,16 @@
 
 package org.gradle.api.internal.artifacts.transform;
 
+import org.gradle.api.internal.artifacts.ivyservice.resolveengine.artifact.ResolvedVariant;
 import org.gradle.api.internal.artifacts.ivyservice.resolveengine.artifact.ResolvedVariantSet;
 import org.gradle.api.internal.attributes.ImmutableAttributes;
 import org.gradle.api.internal.attributes.matching.AttributeMatcher;
 import org.gradle.internal.component.resolution.failure.ResolutionFailureHandler;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Responsible for selecting a suitable transformation chain for a request.
@@ -36,10 +39,14 @@
  * the logic for finding candidate chains and selecting the appropriate chain if possible.
  * <p>
  * It reports any ambiguity failures to the given {@link ResolutionFailureHandler}.
+ * <p>
+ * Disambiguating multiple candidate chains is expensive and typically repeated for many components
+ * of a graph that share the same variant attributes, so unambiguous selections are memoized.
  */
 /* package */ final class TransformationChainSelector {
     private final ConsumerProvidedVariantFinder transformationChainFinder;
     private final ResolutionFailureHandler failureHandler;
+    private final ConcurrentHashMap<SelectionKey, Integer> selectedChainIndices = new ConcurrentHashMap<>();
 
     public TransformationChainSelector(ConsumerProvidedVariantFinder transformationChainFinder, ResolutionFailureHandler failureHandler) {
         this.transformationChainFinder = transformationChainFinder;
@@ -64,10 +71,76 @@ public Optional<TransformedVariant> selectTransformationChain(ResolvedVariantSet
         if (candidateChains.size() == 1) {
             return Optional.of(candidateChains.get(0));
         } else if (candidateChains.size() > 1) {
-            TransformationChainsDisambiguator transformationChainsDisambiguator = new TransformationChainsDisambiguator(failureHandler, producer, targetAttributes, attributeMatcher, candidateChains);
-            return transformationChainsDisambiguator.disambiguate();
+            return disambiguate(producer, targetAttributes, attributeMatcher, candidateChains);
         } else {
             return Optional.empty();
         }
     }
+
+    private Optional<TransformedVariant> disambiguate(ResolvedVariantSet producer, ImmutableAttributes targetAttributes, AttributeMatcher attributeMatcher, List<TransformedVariant> candidateChains) {
+        // The candidate chains only depend on the attributes of the producer variants, so a selection made
+        // for one producer can be reused for any other producer with the same variant attributes
+        SelectionKey key = new SelectionKey(producer.getCandidates(), targetAttributes, attributeMatcher);
+        Integer selectedIndex = selectedChainIndices.get(key);
+        if (selectedIndex != null) {
+            return Optional.of(candidateChains.get(selectedIndex));
+        }
+
+        TransformationChainsDisambiguator transformationChainsDisambiguator = new TransformationChainsDisambiguator(failureHandler, producer, targetAttributes, attributeMatcher, candidateChains);
+        Optional<TransformedVariant> selected = transformationChainsDisambiguator.disambiguate();
+        // Only remember selections which did not report anything, so that reports are emitted for each producer
+        if (selected.isPresent() && transformationChainsDisambiguator.hasSingleDistinctPreferredChain()) {
+            int index = indexOf(candidateChains, selected.get());
+            if (index >= 0) {
+                selectedChainIndices.put(key, index);
+            }
+        }
+        return selected;
+    }
+
+    private static int indexOf(List<TransformedVariant> candidateChains, TransformedVariant chain) {
+        for (int i = 0; i < candidateChains.size(); i++) {
+            if (candidateChains.get(i) == chain) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static class SelectionKey {
+        private final List<ImmutableAttributes> variantAttributes;
+        private final ImmutableAttributes targetAttributes;
+        private final AttributeMatcher attributeMatcher;
+        private final int hashCode;
+
+        SelectionKey(List<ResolvedVariant> variants, ImmutableAttributes targetAttributes, AttributeMatcher attributeMatcher) {
+            List<ImmutableAttributes> variantAttributes = new ArrayList<>(variants.size());
+            for (ResolvedVariant variant : variants) {
+                variantAttributes.add(variant.getAttributes().asImmutable());
+            }
+            this.variantAttributes = variantAttributes;
+            this.targetAttributes = targetAttributes;
+            this.attributeMatcher = attributeMatcher;
+            this.hashCode = 31 * (31 * variantAttributes.hashCode() + targetAttributes.hashCode()) + System.identityHashCode(attributeMatcher);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SelectionKey that = (SelectionKey) o;
+            return attributeMatcher == that.attributeMatcher
+                && targetAttributes.equals(that.targetAttributes)
+                && variantAttributes.equals(that.variantAttributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -143,6 +143,18 @@ public Optional<TransformedVariant> disambiguate() {
         }
     }
 
+    /**
+     * Whether the given chains contain a single distinct preferred chain, meaning that {@link #disambiguate()}
+     * selects a chain without reporting anything.
+     * <p>
+     * This may trigger fingerprinting.
+     *
+     * @return {@code true} if there is exactly one preferred chain, or all preferred chains share the same fingerprint; {@code false} otherwise
+     */
+    public boolean hasSingleDistinctPreferredChain() {
+        return preferredChains.size() == 1 || (!preferredChains.isEmpty() && preferredChainsByFingerprint.get().size() == 1);
+    }
+
     @Deprecated
     @SuppressWarnings("DeprecatedIsStillUsed")
     private void warnThatMultipleDistinctChainsAreAvailable(ResolvedVariantSet targetVariantSet, ImmutableAttributes requestedAttributes, ResolutionFailureHandler failureHandler, Collection<TransformedVariant> trulyDistinctChains) {
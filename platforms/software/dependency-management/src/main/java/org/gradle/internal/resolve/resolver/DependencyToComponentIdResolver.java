@@ -36,4 +36,18 @@ public interface DependencyToComponentIdResolver {
      * <p>At some point in the future, this should resolve to a set of candidates rather than a single instance.
      */
     void resolve(ComponentSelector selector, ComponentOverrideMetadata overrideMetadata, VersionSelector acceptor, @Nullable VersionSelector rejector, BuildableComponentIdResolveResult result);
+
+    /**
+     * Returns true if resolving the given selector requires information that is not available locally or from the caches, such as the version listing of a module in a remote repository.
+     */
+    default boolean requiresRemoteAccess(ComponentSelector selector, ComponentOverrideMetadata overrideMetadata, VersionSelector acceptor) {
+        return false;
+    }
+
+    /**
+     * Fetches the remote information required to resolve the given selector, so that a later call to {@link #resolve} can use it from the caches.
+     * Does not select a component, and can be called concurrently for different selectors.
+     */
+    default void prefetch(ComponentSelector selector, ComponentOverrideMetadata overrideMetadata, VersionSelector acceptor) {
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve
+
+import org.gradle.api.internal.artifacts.ComponentMetadataProcessorFactory
+import org.gradle.api.internal.artifacts.DefaultModuleIdentifier
+import org.gradle.api.internal.artifacts.ivyservice.CacheExpirationControl
+import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.strategy.VersionParser
+import org.gradle.api.internal.attributes.AttributesFactory
+import org.gradle.internal.component.external.model.DefaultModuleComponentSelector
+import org.gradle.internal.component.model.ComponentOverrideMetadata
+import org.gradle.internal.resolve.ModuleVersionResolveException
+import org.gradle.internal.resolve.caching.ComponentMetadataSupplierRuleExecutor
+import spock.lang.Specification
+
+class DynamicVersionResolverTest extends Specification {
+    def selector = DefaultModuleComponentSelector.newSelector(DefaultModuleIdentifier.newId("group", "module"), "1.+")
+    def overrideMetadata = Mock(ComponentOverrideMetadata)
+    def localAccess = Mock(ModuleComponentRepositoryAccess)
+    def remoteAccess = Mock(ModuleComponentRepositoryAccess)
+    def localAccess2 = Mock(ModuleComponentRepositoryAccess)
+    def remoteAccess2 = Mock(ModuleComponentRepositoryAccess)
+
+    def resolver = new DynamicVersionResolver(
+        Mock(VersionedComponentChooser),
+        new VersionParser(),
+        Mock(AttributesFactory),
+        Mock(ComponentMetadataProcessorFactory),
+        Mock(ComponentMetadataSupplierRuleExecutor),
+        Mock(CacheExpirationControl)
+    )
+
+    def setup() {
+        resolver.add(Stub(ModuleComponentRepository) {
+            getLocalAccess() >> localAccess
+            getRemoteAccess() >> remoteAccess
+            getName() >> "repo1"
+        })
+        resolver.add(Stub(ModuleComponentRepository) {
+            getLocalAccess() >> localAccess2
+            getRemoteAccess() >> remoteAccess2
+            getName() >> "repo2"
+        })
+    }
+
+    def "version listing is cached when every repository can list versions locally"() {
+        when:
+        def cached = resolver.isVersionListingCached(selector, overrideMetadata)
+
+        then:
+        cached
+        1 * localAccess.listModuleVersions(selector, overrideMetadata, _) >> { args -> args[2].listed(["1.0"]) }
+        1 * localAccess2.listModuleVersions(selector, overrideMetadata, _) >> { args -> args[2].listed(["1.1"]) }
+        0 * remoteAccess._
+        0 * remoteAccess2._
+    }
+
+    def "version listing is not cached when some repository cannot list versions locally"() {
+        when:
+        def cached = resolver.isVersionListingCached(selector, overrideMetadata)
+
+        then:
+        !cached
+        1 * localAccess.listModuleVersions(selector, overrideMetadata, _) >> { args -> args[2].listed(["1.0"]) }
+        1 * localAccess2.listModuleVersions(selector, overrideMetadata, _)
+        0 * remoteAccess._
+        0 * remoteAccess2._
+    }
+
+    def "version listing is not cached when no repository can list versions locally"() {
+        when:
+        def cached = resolver.isVersionListingCached(selector, overrideMetadata)
+
+        then:
+        !cached
+        1 * localAccess.listModuleVersions(selector, overrideMetadata, _)
+        0 * localAccess2._
+        0 * remoteAccess._
+        0 * remoteAccess2._
+    }
+
+    def "prefetch lists versions remotely in each repository without a cached listing"() {
+        when:
+        resolver.prefetchVersionListings(selector, overrideMetadata)
+
+        then:
+        1 * localAccess.listModuleVersions(selector, overrideMetadata, _) >> { args -> args[2].listed(["1.0"]) }
+        0 * remoteAccess._
+        1 * localAccess2.listModuleVersions(selector, overrideMetadata, _)
+        1 * remoteAccess2.listModuleVersions(selector, overrideMetadata, _) >> { args -> args[2].listed(["1.1"]) }
+    }
+
+    def "prefetch stops at the first repository failure"() {
+        when:
+        resolver.prefetchVersionListings(selector, overrideMetadata)
+
+        then:
+        1 * remoteAccess.listModuleVersions(selector, overrideMetadata, _) >> { args -> args[2].failed(new ModuleVersionResolveException(selector, new RuntimeException("broken"))) }
+        0 * remoteAccess2._
+    }
+}
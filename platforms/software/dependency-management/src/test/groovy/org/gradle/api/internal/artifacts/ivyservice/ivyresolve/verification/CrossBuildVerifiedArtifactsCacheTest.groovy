@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification
+
+import org.gradle.cache.CacheBuilder
+import org.gradle.cache.IndexedCache
+import org.gradle.cache.PersistentCache
+import org.gradle.cache.scopes.BuildScopedCacheBuilderFactory
+import org.gradle.internal.hash.ChecksumService
+import org.gradle.internal.hash.HashCode
+import org.gradle.internal.hash.Hashing
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+class CrossBuildVerifiedArtifactsCacheTest extends Specification {
+    @Rule
+    TestNameTestDirectoryProvider temporaryFolder = new TestNameTestDirectoryProvider(getClass())
+
+    Map<String, HashCode> entries = [:]
+    BuildScopedCacheBuilderFactory cacheBuilderFactory
+    ChecksumService checksumService = Stub() {
+        sha256(_) >> { File file -> Hashing.sha256().hashBytes(file.bytes) }
+    }
+
+    File artifact
+    File signature
+    File verificationsFile
+    File keyringsFile
+
+    def setup() {
+        IndexedCache<String, HashCode> indexedCache = Stub() {
+            getIfPresent(_) >> { String key -> entries[key] }
+            put(_, _) >> { String key, HashCode value -> entries[key] = value }
+        }
+        PersistentCache persistentCache = Stub() {
+            createIndexedCache(_) >> indexedCache
+        }
+        CacheBuilder cacheBuilder = Stub()
+        cacheBuilder.withDisplayName(_) >> cacheBuilder
+        cacheBuilder.withInitialLockMode(_) >> cacheBuilder
+        cacheBuilder.open() >> persistentCache
+        cacheBuilderFactory = Stub() {
+            createCacheBuilder(_) >> cacheBuilder
+        }
+
+        artifact = temporaryFolder.file("foo-1.0.jar") << "artifact"
+        signature = temporaryFolder.file("foo-1.0.jar.asc") << "signature"
+        verificationsFile = temporaryFolder.file("gradle/verification-metadata.xml") << "<verification-metadata/>"
+        keyringsFile = temporaryFolder.file("gradle/verification-keyring.keys") << "keys"
+    }
+
+    def "reuses the result of a previous build when nothing changed"() {
+        given:
+        newCache().markVerified(artifact, signature)
+
+        expect:
+        newCache().isVerified(artifact, signature)
+    }
+
+    def "does not reuse the result of a previous build when the #description changes"() {
+        given:
+        newCache().markVerified(artifact, signature)
+
+        when:
+        file().text = "changed"
+
+        then:
+        !newCache().isVerified(artifact, signature)
+
+        where:
+        description                  | file
+        "artifact"                   | { artifact }
+        "signature"                  | { signature }
+        "verification metadata file" | { verificationsFile }
+        "keyring"                    | { keyringsFile }
+    }
+
+    def "does not reuse the result of a previous build when the keyring is removed"() {
+        given:
+        newCache().markVerified(artifact, signature)
+
+        when:
+        keyringsFile.delete()
+
+        then:
+        !newCache().isVerified(artifact, signature)
+    }
+
+    def "does not reuse the result of a previous build for an artifact verified without signature"() {
+        given:
+        newCache().markVerified(artifact, null)
+
+        expect:
+        newCache().isVerified(artifact, null)
+        !newCache().isVerified(artifact, signature)
+    }
+
+    def "does not reuse the result of a previous build when keys are refreshed"() {
+        given:
+        newCache().markVerified(artifact, signature)
+
+        when:
+        def refreshing = newCache(true)
+
+        then:
+        !refreshing.isVerified(artifact, signature)
+
+        when:
+        refreshing.markVerified(artifact, signature)
+
+        then:
+        newCache().isVerified(artifact, signature)
+    }
+
+    def "replaces the entry of an artifact when the verification metadata changes"() {
+        given:
+        newCache().markVerified(artifact, signature)
+
+        when:
+        verificationsFile.text = "changed"
+        newCache().markVerified(artifact, signature)
+
+        then:
+        entries.size() == 1
+        newCache().isVerified(artifact, signature)
+    }
+
+    def "does not record a missing artifact"() {
+        given:
+        artifact.delete()
+
+        when:
+        newCache().markVerified(artifact, signature)
+
+        then:
+        entries.isEmpty()
+        !newCache().isVerified(artifact, signature)
+    }
+
+    private CrossBuildVerifiedArtifactsCache newCache(boolean refreshKeys = false) {
+        def revision = CrossBuildVerifiedArtifactsCache.revisionOf(checksumService, verificationsFile, keyringsFile)
+        return new CrossBuildVerifiedArtifactsCache(cacheBuilderFactory, checksumService, revision, refreshKeys)
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.transform
+
+import org.gradle.api.internal.artifacts.ivyservice.resolveengine.artifact.ResolvedVariant
+import org.gradle.api.internal.artifacts.ivyservice.resolveengine.artifact.ResolvedVariantSet
+import org.gradle.api.internal.attributes.matching.AttributeMatcher
+import org.gradle.internal.component.resolution.failure.ResolutionFailureHandler
+import org.gradle.util.AttributeTestUtil
+import spock.lang.Specification
+
+class TransformationChainSelectorTest extends Specification {
+    def finder = Mock(ConsumerProvidedVariantFinder)
+    def attributeMatcher = Mock(AttributeMatcher)
+    def selector = new TransformationChainSelector(finder, Stub(ResolutionFailureHandler))
+    def requested = AttributeTestUtil.attributes(usage: "requested")
+
+    def "reuses unambiguous selection for producers with the same variant attributes"() {
+        def producer1 = producer([usage: "source"], [usage: "other"])
+        def producer2 = producer([usage: "source"], [usage: "other"])
+        def chains1 = [chain(producer1.candidates[0], [usage: "compatible"]), chain(producer1.candidates[1], [usage: "requested"])]
+        def chains2 = [chain(producer2.candidates[0], [usage: "compatible"]), chain(producer2.candidates[1], [usage: "requested"])]
+
+        when:
+        def result = selector.selectTransformationChain(producer1, requested, attributeMatcher)
+
+        then:
+        result.get() == chains1[1]
+        1 * finder.findCandidateTransformationChains(producer1.candidates, requested) >> chains1
+        1 * attributeMatcher.matchMultipleCandidates(chains1, requested) >> [chains1[1]]
+
+        when:
+        result = selector.selectTransformationChain(producer2, requested, attributeMatcher)
+
+        then:
+        result.get() == chains2[1]
+        1 * finder.findCandidateTransformationChains(producer2.candidates, requested) >> chains2
+        0 * attributeMatcher._
+    }
+
+    def "does not reuse selection for producers with different variant attributes"() {
+        def producer1 = producer([usage: "source"], [usage: "other"])
+        def producer2 = producer([usage: "source"], [usage: "different"])
+        def chains1 = [chain(producer1.candidates[0], [usage: "compatible"]), chain(producer1.candidates[1], [usage: "requested"])]
+        def chains2 = [chain(producer2.candidates[0], [usage: "requested"]), chain(producer2.candidates[1], [usage: "compatible"])]
+
+        when:
+        selector.selectTransformationChain(producer1, requested, attributeMatcher)
+        def result = selector.selectTransformationChain(producer2, requested, attributeMatcher)
+
+        then:
+        result.get() == chains2[0]
+        1 * finder.findCandidateTransformationChains(producer1.candidates, requested) >> chains1
+        1 * finder.findCandidateTransformationChains(producer2.candidates, requested) >> chains2
+        1 * attributeMatcher.matchMultipleCandidates(chains1, requested) >> [chains1[1]]
+        1 * attributeMatcher.matchMultipleCandidates(chains2, requested) >> [chains2[0]]
+    }
+
+    private ResolvedVariantSet producer(Map<String, Object>... variantAttributes) {
+        List<ResolvedVariant> variants = variantAttributes.collect { attributes ->
+            Stub(ResolvedVariant) {
+                getAttributes() >> AttributeTestUtil.attributes(attributes)
+            }
+        }
+        return Stub(ResolvedVariantSet) {
+            getCandidates() >> variants
+        }
+    }
+
+    private static TransformedVariant chain(ResolvedVariant root, Map<String, Object> attributes) {
+        def definition = new DefaultVariantDefinition(null, AttributeTestUtil.attributes(attributes), Stub(TransformStep))
+        return new TransformedVariant(root, definition)
+    }
+}
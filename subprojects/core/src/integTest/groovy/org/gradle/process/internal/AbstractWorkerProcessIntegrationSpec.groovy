@@ -43,6 +43,7 @@ import org.gradle.internal.logging.TestOutputEventListener
 import org.gradle.internal.logging.events.OutputEventListener
 import org.gradle.internal.logging.services.DefaultLoggingManagerFactory
 import org.gradle.internal.logging.services.LoggingServiceRegistry
+import org.gradle.internal.operations.BuildOperationProgressEventEmitter
 import org.gradle.internal.operations.CurrentBuildOperationRef
 import org.gradle.internal.operations.DefaultBuildOperationRef
 import org.gradle.internal.operations.OperationIdentifier
@@ -99,7 +100,8 @@ abstract class AbstractWorkerProcessIntegrationSpec extends Specification {
         javaExecHandleFactory,
         new DefaultJvmVersionDetector(new CachingJvmMetadataDetector(defaultJvmMetadataDetector)),
         outputEventListener,
-        Stub(MemoryManager)
+        Stub(MemoryManager),
+        Stub(BuildOperationProgressEventEmitter)
     )
 
     def setup() {
@@ -24,6 +24,7 @@ import org.gradle.internal.Actions
 import org.gradle.internal.id.LongIdGenerator
 import org.gradle.internal.jvm.inspection.CachingJvmMetadataDetector
 import org.gradle.internal.jvm.inspection.DefaultJvmVersionDetector
+import org.gradle.internal.operations.BuildOperationProgressEventEmitter
 import org.gradle.internal.remote.ObjectConnectionBuilder
 import org.gradle.process.internal.health.memory.MemoryManager
 import org.gradle.process.internal.worker.DefaultWorkerProcessFactory
@@ -99,7 +100,8 @@ class WorkerProcessIntegrationTest extends AbstractWorkerProcessIntegrationSpec
             javaExecHandleFactory,
             new DefaultJvmVersionDetector(new CachingJvmMetadataDetector(defaultJvmMetadataDetector)),
             outputEventListener,
-            Stub(MemoryManager)
+            Stub(MemoryManager),
+            Stub(BuildOperationProgressEventEmitter)
         )
         and:
         execute(worker(loggingProcess))
@@ -118,7 +120,8 @@ class WorkerProcessIntegrationTest extends AbstractWorkerProcessIntegrationSpec
             javaExecHandleFactory,
             new DefaultJvmVersionDetector(new CachingJvmMetadataDetector(defaultJvmMetadataDetector)),
             outputEventListener,
-            Stub(MemoryManager)
+            Stub(MemoryManager),
+            Stub(BuildOperationProgressEventEmitter)
         )
         and:
         execute(worker(loggingProcess))
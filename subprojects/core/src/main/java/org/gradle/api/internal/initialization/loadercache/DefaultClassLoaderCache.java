@@ -147,14 +147,23 @@ public void stop() {
         }
     }
 
-    @Override
-    public void beforeComplete() {
+    /**
+     * Discards the classloaders that have not been used by the current build.
+     */
+    public void removeUnused() {
         synchronized (lock) {
             Set<ClassLoaderId> unused = Sets.newHashSet(byId.keySet());
             unused.removeAll(usedInThisBuild);
             for (ClassLoaderId id : unused) {
                 remove(id);
             }
+        }
+    }
+
+    @Override
+    public void beforeComplete() {
+        synchronized (lock) {
+            removeUnused();
             usedInThisBuild.clear();
         }
         assertInternalIntegrity();
@@ -27,11 +27,13 @@
 import javax.annotation.concurrent.ThreadSafe;
 import java.lang.ref.SoftReference;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -50,15 +52,26 @@
 @ThreadSafe
 public class DefaultCrossBuildInMemoryCacheFactory implements CrossBuildInMemoryCacheFactory {
     private final ListenerManager listenerManager;
+    private final List<DefaultCrossBuildInMemoryCache<?, ?>> softlyRetainingCaches = new CopyOnWriteArrayList<>();
 
     public DefaultCrossBuildInMemoryCacheFactory(ListenerManager listenerManager) {
         this.listenerManager = listenerManager;
     }
 
+    /**
+     * Stops retaining strong references to the values used by the previous build session and not yet by the current one.
+     * These values remain available until the garbage collector discards them.
+     */
+    public void releaseValuesFromPreviousSession() {
+        for (DefaultCrossBuildInMemoryCache<?, ?> cache : softlyRetainingCaches) {
+            cache.releaseValuesFromPreviousSession();
+        }
+    }
+
     @Override
     public <K, V> CrossBuildInMemoryCache<K, V> newCache() {
         DefaultCrossBuildInMemoryCache<K, V> cache = new DefaultCrossBuildInMemoryCache<>(KeyRetentionPolicy.STRONG);
-        listenerManager.addListener(cache);
+        register(cache);
         return cache;
     }
 
@@ -76,7 +89,7 @@ protected V maybeGetRetainedValue(K key) {
                 return v;
             }
         };
-        listenerManager.addListener(cache);
+        register(cache);
         return cache;
     }
 
@@ -93,7 +106,7 @@ public <V> CrossBuildInMemoryCache<Class<?>, V> newClassCache() {
         // TODO: Should use some variation of DefaultClassMap below to associate values with classes, as currently we retain a strong reference to each value for one session after the ClassLoader
         //       for the entry's key is discarded, which is unnecessary because we won't attempt to locate the entry again once the ClassLoader has been discarded
         DefaultCrossBuildInMemoryCache<Class<?>, V> cache = new DefaultCrossBuildInMemoryCache<>(KeyRetentionPolicy.WEAK);
-        listenerManager.addListener(cache);
+        register(cache);
         return cache;
     }
 
@@ -104,6 +117,11 @@ public <V> CrossBuildInMemoryCache<Class<?>, V> newClassMap() {
         return map;
     }
 
+    private void register(DefaultCrossBuildInMemoryCache<?, ?> cache) {
+        listenerManager.addListener(cache);
+        softlyRetainingCaches.add(cache);
+    }
+
     private abstract static class AbstractCrossBuildInMemoryCache<K, V> implements CrossBuildInMemoryCache<K, V>, BuildSessionLifecycleListener {
         private final ConcurrentHashMap<K, Lazy<V>> valuesForThisSession = new ConcurrentHashMap<>();
 
@@ -234,6 +252,13 @@ protected void discardRetainedValues() {
             allValues.clear();
         }
 
+        void releaseValuesFromPreviousSession() {
+            // Values used by the current session are still referenced by it
+            synchronized (valuesForPreviousSession) {
+                valuesForPreviousSession.clear();
+            }
+        }
+
         @Override
         protected void retainValue(K key, V v) {
             allValues.put(key, new SoftReference<>(v));
@@ -84,6 +84,7 @@
 import org.gradle.internal.jvm.inspection.ReportingJvmMetadataDetector;
 import org.gradle.internal.logging.LoggingManagerInternal;
 import org.gradle.internal.logging.events.OutputEventListener;
+import org.gradle.internal.operations.BuildOperationProgressEventEmitter;
 import org.gradle.internal.operations.CurrentBuildOperationRef;
 import org.gradle.internal.reflect.Instantiator;
 import org.gradle.internal.remote.MessagingServer;
@@ -224,7 +225,8 @@ WorkerProcessFactory createWorkerProcessFactory(
         JvmVersionDetector jvmVersionDetector,
         MemoryManager memoryManager,
         GradleUserHomeDirProvider gradleUserHomeDirProvider,
-        OutputEventListener outputEventListener
+        OutputEventListener outputEventListener,
+        BuildOperationProgressEventEmitter progressEventEmitter
     ) {
         return new DefaultWorkerProcessFactory(
             loggingManagerInternal,
@@ -236,7 +238,8 @@ WorkerProcessFactory createWorkerProcessFactory(
             execHandleFactory,
             jvmVersionDetector,
             outputEventListener,
-            memoryManager
+            memoryManager,
+            progressEventEmitter
         );
     }
 
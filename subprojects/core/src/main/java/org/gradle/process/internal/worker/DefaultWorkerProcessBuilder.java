@@ -23,6 +23,9 @@
 import org.gradle.internal.jvm.inspection.JvmVersionDetector;
 import org.gradle.internal.logging.events.OutputEventListener;
 import org.gradle.internal.nativeintegration.services.NativeServices.NativeServicesMode;
+import org.gradle.internal.operations.BuildOperationProgressEventEmitter;
+import org.gradle.internal.operations.CurrentBuildOperationRef;
+import org.gradle.internal.operations.OperationIdentifier;
 import org.gradle.internal.remote.Address;
 import org.gradle.internal.remote.ConnectionAcceptor;
 import org.gradle.internal.remote.MessagingServer;
@@ -42,8 +45,10 @@
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -64,6 +69,7 @@ public class DefaultWorkerProcessBuilder implements WorkerProcessBuilder {
 
     private final MemoryManager memoryManager;
     private final JvmVersionDetector jvmVersionDetector;
+    private final BuildOperationProgressEventEmitter progressEventEmitter;
     private Action<? super WorkerProcessContext> action;
     private LogLevel logLevel = LogLevel.LIFECYCLE;
     private String baseName = "Gradle Worker";
@@ -80,7 +86,8 @@ public class DefaultWorkerProcessBuilder implements WorkerProcessBuilder {
         ApplicationClassesInSystemClassLoaderWorkerImplementationFactory workerImplementationFactory,
         OutputEventListener outputEventListener,
         MemoryManager memoryManager,
-        JvmVersionDetector jvmVersionDetector
+        JvmVersionDetector jvmVersionDetector,
+        BuildOperationProgressEventEmitter progressEventEmitter
     ) {
         this.javaCommand = execHandleFactory.newJavaExec();
         this.javaCommand.setExecutable(Jvm.current().getJavaExecutable());
@@ -90,6 +97,7 @@ public class DefaultWorkerProcessBuilder implements WorkerProcessBuilder {
         this.outputEventListener = outputEventListener;
         this.memoryManager = memoryManager;
         this.jvmVersionDetector = jvmVersionDetector;
+        this.progressEventEmitter = progressEventEmitter;
     }
 
     public int getConnectTimeoutSeconds() {
@@ -216,8 +224,13 @@ public NativeServicesMode getNativeServicesMode() {
     public WorkerProcess build() {
         final WorkerJvmMemoryStatus memoryStatus = shouldPublishJvmMemoryInfo ? new WorkerJvmMemoryStatus() : null;
         final DefaultWorkerProcess workerProcess = new DefaultWorkerProcess(connectTimeoutSeconds, TimeUnit.SECONDS, memoryStatus);
+        // The worker connects from another thread, so report against the operation that started it
+        OperationIdentifier buildOperationId = CurrentBuildOperationRef.instance().getId();
         ConnectionAcceptor acceptor = server.accept(connection ->
             workerProcess.onConnect(connection, () -> {
+                if (buildOperationId != null) {
+                    connection.reportJavaSerializedParameters(method -> progressEventEmitter.emitNow(buildOperationId, new DefaultJavaSerializedParametersProgressDetails(method)));
+                }
                 DefaultWorkerLoggingProtocol defaultWorkerLoggingProtocol = new DefaultWorkerLoggingProtocol(outputEventListener);
                 connection.useParameterSerializers(WorkerLoggingSerializer.create());
                 connection.addIncoming(WorkerLoggingProtocol.class, defaultWorkerLoggingProtocol);
@@ -305,6 +318,34 @@ public String getDisplayName() {
         }
     }
 
+    private static class DefaultJavaSerializedParametersProgressDetails implements JavaSerializedParametersProgressDetails {
+        private final Method method;
+
+        public DefaultJavaSerializedParametersProgressDetails(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public String getProtocolType() {
+            return method.getDeclaringClass().getName();
+        }
+
+        @Override
+        public String getMethodName() {
+            return method.getName();
+        }
+
+        @Override
+        public List<String> getParameterTypes() {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            String[] names = new String[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                names[i] = parameterTypes[i].getName();
+            }
+            return Collections.unmodifiableList(Arrays.asList(names));
+        }
+    }
+
     private static class WorkerJvmMemoryStatus implements JvmMemoryStatus, WorkerJvmMemoryInfoProtocol {
         private JvmMemoryStatus snapshot;
 
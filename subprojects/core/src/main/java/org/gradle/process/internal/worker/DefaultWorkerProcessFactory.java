@@ -24,6 +24,7 @@
 import org.gradle.internal.id.IdGenerator;
 import org.gradle.internal.jvm.inspection.JvmVersionDetector;
 import org.gradle.internal.logging.events.OutputEventListener;
+import org.gradle.internal.operations.BuildOperationProgressEventEmitter;
 import org.gradle.internal.remote.MessagingServer;
 import org.gradle.process.internal.JavaExecHandleFactory;
 import org.gradle.process.internal.health.memory.MemoryManager;
@@ -41,6 +42,7 @@ public class DefaultWorkerProcessFactory implements WorkerProcessFactory {
     private final OutputEventListener outputEventListener;
     private final ApplicationClassesInSystemClassLoaderWorkerImplementationFactory workerImplementationFactory;
     private final MemoryManager memoryManager;
+    private final BuildOperationProgressEventEmitter progressEventEmitter;
     private int connectTimeoutSeconds = 120;
 
     public DefaultWorkerProcessFactory(
@@ -53,7 +55,8 @@ public DefaultWorkerProcessFactory(
         JavaExecHandleFactory execHandleFactory,
         JvmVersionDetector jvmVersionDetector,
         OutputEventListener outputEventListener,
-        MemoryManager memoryManager
+        MemoryManager memoryManager,
+        BuildOperationProgressEventEmitter progressEventEmitter
     ) {
         this.loggingManager = loggingManager;
         this.server = server;
@@ -63,6 +66,7 @@ public DefaultWorkerProcessFactory(
         this.outputEventListener = outputEventListener;
         this.workerImplementationFactory = new ApplicationClassesInSystemClassLoaderWorkerImplementationFactory(classPathRegistry, temporaryFileProvider, gradleUserHomeDir);
         this.memoryManager = memoryManager;
+        this.progressEventEmitter = progressEventEmitter;
     }
 
     public void setConnectTimeoutSeconds(int connectTimeoutSeconds) {
@@ -88,7 +92,7 @@ public <IN, OUT> MultiRequestWorkerProcessBuilder<IN, OUT> multiRequestWorker(Cl
     }
 
     private DefaultWorkerProcessBuilder newWorkerProcessBuilder() {
-        DefaultWorkerProcessBuilder builder = new DefaultWorkerProcessBuilder(execHandleFactory, server, idGenerator, workerImplementationFactory, outputEventListener, memoryManager, jvmVersionDetector);
+        DefaultWorkerProcessBuilder builder = new DefaultWorkerProcessBuilder(execHandleFactory, server, idGenerator, workerImplementationFactory, outputEventListener, memoryManager, jvmVersionDetector, progressEventEmitter);
         builder.setLogLevel(loggingManager.getLevel());
         builder.setConnectTimeoutSeconds(connectTimeoutSeconds);
         return builder;
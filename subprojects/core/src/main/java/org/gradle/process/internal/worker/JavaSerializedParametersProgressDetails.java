@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.process.internal.worker;
+
+import java.util.List;
+
+/**
+ * Emitted when a worker process connects, for each method of its protocols whose parameters are serialized
+ * using Java serialization because no dedicated serializer handles them.
+ */
+public interface JavaSerializedParametersProgressDetails {
+    /**
+     * The fully qualified name of the protocol type declaring the method.
+     */
+    String getProtocolType();
+
+    String getMethodName();
+
+    /**
+     * The fully qualified names of the parameter types of the method.
+     */
+    List<String> getParameterTypes();
+}
@@ -50,6 +50,22 @@ class DefaultCrossBuildInMemoryCacheFactoryTest extends AbstractCrossBuildInMemo
         0 * function._
     }
 
+    def "values from the previous session remain available after releasing them"() {
+        def function = Mock(Function)
+        def value = new Object()
+
+        when:
+        def cache = factory.newCache()
+        cache.get("a", function)
+        listenerManager.getBroadcaster(BuildSessionLifecycleListener).beforeComplete()
+        factory.releaseValuesFromPreviousSession()
+
+        then:
+        1 * function.apply("a") >> value
+        cache.get("a", function) == value
+        0 * function._
+    }
+
     def "creates a cache whose keys are classes"() {
         def a = new Object()
         def b = new Object()
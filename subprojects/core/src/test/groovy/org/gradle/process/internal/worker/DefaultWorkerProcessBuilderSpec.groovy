@@ -19,6 +19,7 @@ import org.gradle.api.JavaVersion
 import org.gradle.internal.id.IdGenerator
 import org.gradle.internal.jvm.inspection.JvmVersionDetector
 import org.gradle.internal.logging.events.OutputEventListener
+import org.gradle.internal.operations.BuildOperationProgressEventEmitter
 import org.gradle.internal.remote.ConnectionAcceptor
 import org.gradle.internal.remote.MessagingServer
 import org.gradle.internal.remote.ObjectConnection
@@ -60,7 +61,8 @@ class DefaultWorkerProcessBuilderSpec extends Specification {
         applicationClassesInSystemClassLoaderWorkerImplementationFactory,
         outputEventListener,
         memoryManager,
-        versionDetector)
+        versionDetector,
+        Stub(BuildOperationProgressEventEmitter))
 
 
     def "validate entries in classpath"() {